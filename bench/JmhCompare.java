@@ -0,0 +1,168 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (bench/jmh.sh output) benchmark by
+ * benchmark. A result is a regression when it got worse by more than the
+ * threshold percentage (default 10) and by more than both runs' error
+ * margins combined; the exit status is 1 if there is any.
+ *
+ *   java bench/JmhCompare.java <before.json> <after.json> [thresholdPercent]
+ */
+public class JmhCompare {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhCompare <before.json> <after.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Score> before = read(Path.of(args[0]));
+        Map<String, Score> after = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "before", "after", "change");
+        for (Map.Entry<String, Score> entry : after.entrySet()) {
+            Score now = entry.getValue();
+            Score then = before.get(entry.getKey());
+            if (then == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", entry.getKey(), "-", now, "new");
+                continue;
+            }
+            double change = (now.value - then.value) / then.value * 100;
+            // Time per op: higher is worse. Throughput: lower is worse.
+            double worse = now.unit.startsWith("ops/") ? -change : change;
+            boolean regression = worse > threshold && Math.abs(now.value - then.value) > now.error + then.error;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(), then, now, change,
+                    regression ? "  REGRESSION" : "");
+        }
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    record Score(double value, double error, String unit) {
+        @Override
+        public String toString() {
+            return String.format("%.3f %s", value, unit);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Score> read(Path file) throws Exception {
+        Map<String, Score> scores = new TreeMap<>();
+        for (Object item : (List<Object>) new Json(Files.readString(file)).value()) {
+            Map<String, Object> run = (Map<String, Object>) item;
+            StringBuilder name = new StringBuilder(run.get("benchmark").toString().replace("com.ecommerce.bench.", ""));
+            Object params = run.get("params");
+            if (params instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> name.append(' ').append(key).append('=').append(value));
+            }
+            Map<String, Object> metric = (Map<String, Object>) run.get("primaryMetric");
+            Object error = metric.get("scoreError");
+            scores.put(name.toString(), new Score(((Number) metric.get("score")).doubleValue(),
+                    error instanceof Number number && !Double.isNaN(number.doubleValue()) ? number.doubleValue() : 0,
+                    metric.get("scoreUnit").toString()));
+        }
+        return scores;
+    }
+
+    /** Just enough JSON for JMH's result format. */
+    private static final class Json {
+        private final String text;
+        private int pos;
+
+        Json(String text) {
+            this.text = text;
+        }
+
+        Object value() {
+            skipWhitespace();
+            char c = text.charAt(pos);
+            if (c == '{') {
+                Map<String, Object> object = new LinkedHashMap<>();
+                pos++;
+                skipWhitespace();
+                if (text.charAt(pos) == '}') {
+                    pos++;
+                    return object;
+                }
+                do {
+                    skipWhitespace();
+                    String key = string();
+                    skipWhitespace();
+                    pos++; // ':'
+                    object.put(key, value());
+                    skipWhitespace();
+                } while (text.charAt(pos++) == ',');
+                return object;
+            }
+            if (c == '[') {
+                List<Object> array = new ArrayList<>();
+                pos++;
+                skipWhitespace();
+                if (text.charAt(pos) == ']') {
+                    pos++;
+                    return array;
+                }
+                do {
+                    array.add(value());
+                    skipWhitespace();
+                } while (text.charAt(pos++) == ',');
+                return array;
+            }
+            if (c == '"') {
+                return string();
+            }
+            int start = pos;
+            while (pos < text.length() && ",}] \n\r\t".indexOf(text.charAt(pos)) < 0) {
+                pos++;
+            }
+            String literal = text.substring(start, pos);
+            return switch (literal) {
+                case "true" -> Boolean.TRUE;
+                case "false" -> Boolean.FALSE;
+                case "null" -> null;
+                case "NaN", "\"NaN\"" -> Double.NaN;
+                default -> Double.parseDouble(literal);
+            };
+        }
+
+        private String string() {
+            StringBuilder out = new StringBuilder();
+            pos++; // opening quote
+            while (text.charAt(pos) != '"') {
+                char c = text.charAt(pos++);
+                if (c == '\\') {
+                    char escaped = text.charAt(pos++);
+                    out.append(switch (escaped) {
+                        case 'n' -> '\n';
+                        case 't' -> '\t';
+                        case 'u' -> {
+                            char unicode = (char) Integer.parseInt(text.substring(pos, pos + 4), 16);
+                            pos += 4;
+                            yield unicode;
+                        }
+                        default -> escaped;
+                    });
+                } else {
+                    out.append(c);
+                }
+            }
+            pos++;
+            return out.toString();
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
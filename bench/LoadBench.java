@@ -0,0 +1,136 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator: `concurrency` clients each send the
+ * target requests round-robin, back to back, for `seconds` after a warm-up,
+ * then throughput and latency percentiles are printed on one line.
+ *
+ *   java bench/LoadBench.java <label> <baseUrl> <concurrency> <seconds> <target>...
+ *
+ * A target is METHOD:path or METHOD:path:jsonBody, for example
+ * GET:/api/products or POST:/api/auth/login:{"username":"admin","password":"admin123456"}.
+ * Set BENCH_TOKEN to send "Authorization: Bearer <token>" with every request.
+ */
+public class LoadBench {
+
+    private static final int WARMUP_SECONDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("Usage: LoadBench <label> <baseUrl> <concurrency> <seconds> <target>...");
+            System.exit(2);
+        }
+        String label = args[0];
+        String baseUrl = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        int seconds = Integer.parseInt(args[3]);
+        String token = System.getenv("BENCH_TOKEN");
+
+        List<HttpRequest> targets = new ArrayList<>();
+        for (String target : Arrays.copyOfRange(args, 4, args.length)) {
+            String[] parts = target.split(":", 3);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + parts[1]))
+                    .timeout(Duration.ofSeconds(30));
+            if (token != null && !token.isEmpty()) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            if (parts.length == 3) {
+                request.header("Content-Type", "application/json")
+                        .method(parts[0], HttpRequest.BodyPublishers.ofString(parts[2]));
+            } else {
+                request.method(parts[0], HttpRequest.BodyPublishers.noBody());
+            }
+            targets.add(request.build());
+        }
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+
+        run(client, clients, targets, concurrency, WARMUP_SECONDS);
+        long started = System.nanoTime();
+        List<Result> results = run(client, clients, targets, concurrency, seconds);
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        clients.shutdownNow();
+
+        int total = 0;
+        long errors = 0;
+        for (Result result : results) {
+            total += result.count;
+            errors += result.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Result result : results) {
+            System.arraycopy(result.latencies, 0, latencies, offset, result.count);
+            offset += result.count;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("%-10s concurrency=%d requests=%d errors=%d throughput=%.1f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                label, concurrency, total, errors, total / elapsed,
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99), percentile(latencies, 100));
+    }
+
+    private static List<Result> run(HttpClient client, ExecutorService clients, List<HttpRequest> targets,
+                                    int concurrency, int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            int first = i;
+            futures.add(clients.submit(() -> {
+                Result result = new Result();
+                for (int n = first; System.nanoTime() < deadline; n++) {
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        int status = client.send(targets.get(n % targets.size()), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        ok = status < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    result.record(System.nanoTime() - start, ok);
+                }
+                return result;
+            }));
+        }
+        List<Result> results = new ArrayList<>();
+        for (Future<Result> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+}
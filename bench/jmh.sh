@@ -0,0 +1,19 @@
+#!/bin/bash
+# Runs the JMH benchmarks in benchmarks/ and keeps one JSON result file per
+# commit under bench/results, so runs can be compared across commits:
+#
+#   bench/jmh.sh                      # everything
+#   bench/jmh.sh Jwt -p strength=10   # any JMH arguments (a regex selects benchmarks)
+#   java bench/JmhCompare.java bench/results/<before>.json bench/results/<after>.json
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+COMMIT=$(git rev-parse --short HEAD)
+git diff --quiet HEAD -- src pom.xml benchmarks || COMMIT="$COMMIT-dirty"
+RESULT="bench/results/$COMMIT.json"
+mkdir -p bench/results
+
+mvn -B -q install -DskipTests
+mvn -B -q -f benchmarks/pom.xml package
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
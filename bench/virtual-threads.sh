@@ -0,0 +1,50 @@
+#!/bin/bash
+# Compares today's thread-per-request setup with virtual-thread mode.
+#
+# Starts the packaged app twice against the database configured in
+# application.properties (or SPRING_DATASOURCE_* in the environment), once
+# per mode, and drives both with the same mix: an anonymous product list, an
+# authenticated order list and a login (BCrypt). Needs a Java 21 runtime.
+#
+# The virtual run also traces pinned carrier threads and fails if any pinned
+# stack holds a monitor in com.ecommerce code: blocking inside synchronized
+# there would hold a carrier for the whole wait.
+#
+#   mvn -B package -DskipTests && bench/virtual-threads.sh [concurrency] [seconds]
+set -euo pipefail
+
+CONCURRENCY=${1:-200}
+SECONDS_PER_RUN=${2:-60}
+PORT=${BENCH_PORT:-8089}
+JAR=${BENCH_JAR:-target/ecommerce-api-1.0.0.jar}
+POOL_SIZE=${BENCH_POOL_SIZE:-5}
+LOGIN='{"username":"admin","password":"admin123456"}'
+BASE_URL="http://localhost:$PORT"
+
+run_mode() {
+  local label=$1 virtual=$2
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" \
+       --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" --spring.jpa.show-sql=false \
+       --logging.level.root=WARN --logging.level.com.ecommerce=WARN > "target/bench-$label.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null" EXIT
+  until curl -sf "$BASE_URL/api/products" > /dev/null; do sleep 1; done
+
+  local token
+  token=$(curl -sf -H 'Content-Type: application/json' -d "$LOGIN" "$BASE_URL/api/auth/login" \
+          | sed -E 's/.*"token":"([^"]+)".*/\1/')
+  BENCH_TOKEN=$token java bench/LoadBench.java "$label" "$BASE_URL" "$CONCURRENCY" "$SECONDS_PER_RUN" \
+      GET:/api/products GET:/api/orders "POST:/api/auth/login:$LOGIN"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+if grep -E 'com\.ecommerce\..*<== monitors' target/bench-virtual.log; then
+  echo "Virtual threads were pinned by monitors in application code (see target/bench-virtual.log)" >&2
+  exit 1
+fi
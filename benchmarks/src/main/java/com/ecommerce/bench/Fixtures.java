@@ -0,0 +1,77 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.dataset.DatasetGenerator;
+import com.ecommerce.dataset.DatasetSink;
+import com.ecommerce.dataset.DatasetSpec;
+import com.ecommerce.model.CartItem;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.OrderItem;
+import com.ecommerce.model.Product;
+import com.ecommerce.model.SalesRollup;
+import com.ecommerce.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** In-memory catalog and order graphs shaped like the seeded data. */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /** Catalog rows from the synthetic dataset generator, fixed seed and date. */
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        DatasetSpec spec = new DatasetSpec().apply("users=0", "orders=0", "products=" + count, "end=2024-06-01T00:00");
+        new DatasetGenerator(spec).generate(new DatasetSink() {
+            @Override
+            public void user(User user) {
+            }
+
+            @Override
+            public void product(Product product) {
+                products.add(product);
+            }
+
+            @Override
+            public void order(Order order) {
+            }
+
+            @Override
+            public void cartItem(CartItem cartItem) {
+            }
+        });
+        return products;
+    }
+
+    /** An order whose lines and total are built the way createOrder builds them. */
+    static Order order(int lines) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("customer");
+
+        Order order = new Order();
+        order.setId(1L);
+        order.setUser(user);
+        order.setShippingAddress("1 Main Street, Springfield");
+        order.setPaymentMethod("COD");
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setCreatedAt(LocalDateTime.of(2024, 6, 1, 9, 30));
+        order.setUpdatedAt(order.getCreatedAt());
+
+        long itemId = 1;
+        for (Product product : products(lines)) {
+            OrderItem item = new OrderItem();
+            item.setId(itemId++);
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1 + (int) (itemId % 4));
+            item.setPrice(product.getPrice());
+            item.setCategory(SalesRollup.categoryOf(product.getCategory()));
+            order.getOrderItems().add(item);
+        }
+        order.setTotalAmount(order.calculateTotalAmount());
+        return order;
+    }
+}
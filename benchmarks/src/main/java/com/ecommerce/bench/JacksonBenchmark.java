@@ -0,0 +1,73 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.dto.OrderResponse;
+import com.ecommerce.dto.ProductResponse;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON writing of the catalog and order responses, with an ObjectMapper
+ * configured the way Spring Boot configures the application's. The order
+ * is measured through OrderResponse, the mapping included, because the
+ * Order entity itself is never serialised (its items point back at it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"20", "100"})
+    int size;
+
+    ObjectMapper objectMapper;
+    List<Product> products;
+    List<ProductResponse> productResponses;
+    Order order;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        products = Fixtures.products(size);
+        productResponses = ProductResponse.from(products);
+        order = Fixtures.order(size / 10);
+    }
+
+    @Benchmark
+    public byte[] productEntities() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] productResponses() throws Exception {
+        return objectMapper.writeValueAsBytes(productResponses);
+    }
+
+    @Benchmark
+    public byte[] productResponsesWithMapping() throws Exception {
+        return objectMapper.writeValueAsBytes(ProductResponse.from(products));
+    }
+
+    @Benchmark
+    public byte[] orderResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(OrderResponse.from(order));
+    }
+}
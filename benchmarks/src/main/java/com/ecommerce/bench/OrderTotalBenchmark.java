@@ -0,0 +1,58 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.model.Order;
+import com.ecommerce.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order total as createOrder computes it, Order.calculateTotalAmount: each
+ * line's price in cents times quantity, summed as longs. orderTotalBigDecimal
+ * is the earlier BigDecimal multiply/add chain over the same lines, kept for
+ * comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    Order order;
+
+    @Setup
+    public void setUp() {
+        order = Fixtures.order(lines);
+    }
+
+    @Benchmark
+    public BigDecimal orderTotal() {
+        return order.calculateTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal orderTotalBigDecimal() {
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (OrderItem item : order.getOrderItems()) {
+            BigDecimal itemTotal = item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+            totalAmount = totalAmount.add(itemTotal);
+        }
+        return totalAmount;
+    }
+}
@@ -1,6 +1,31 @@
-import { useState, useEffect } from 'react'
+import { useState, useEffect, useRef } from 'react'
 
 const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080'
+const ORDERS_PAGE_SIZE = 20
+
+// Order lists are keyset-paginated: each page carries the cursor of the next
+// one in X-Next-Cursor, which is absent on the last page. Fetches pages until
+// at least minCount orders are in hand, so a refresh keeps everything the
+// user has already loaded.
+const fetchOrderPages = async (path, token, cursor, minCount) => {
+  const headers = token ? { 'Authorization': `Bearer ${token}` } : {}
+  const separator = path.includes('?') ? '&' : '?'
+  const items = []
+  do {
+    const query = `limit=${ORDERS_PAGE_SIZE}` + (cursor ? `&cursor=${encodeURIComponent(cursor)}` : '')
+    const response = await fetch(`${API_URL}${path}${separator}${query}`, { headers })
+    if (!response.ok) throw new Error(`${path} returned ${response.status}`)
+    const data = await response.json()
+    items.push(...(Array.isArray(data) ? data : []))
+    cursor = response.headers.get('X-Next-Cursor')
+  } while (cursor && items.length < minCount)
+  return { items, cursor }
+}
+
+const appendOrders = (loaded, page) => {
+  const ids = new Set(loaded.map(order => order.id))
+  return [...loaded, ...page.filter(order => !ids.has(order.id))]
+}
 
 function App() {
   const [currentPage, setCurrentPage] = useState('home')
@@ -29,6 +54,14 @@ function App() {
   const [error, setError] = useState('')
   const [success, setSuccess] = useState('')
   const [adminOrders, setAdminOrders] = useState([])
+  const [ordersCursor, setOrdersCursor] = useState(null)
+  const [adminOrdersCursor, setAdminOrdersCursor] = useState(null)
+  // Loaded list sizes for refreshes started from the event stream, whose
+  // callbacks would otherwise see the lists as they were when it connected
+  const loadedOrders = useRef(0)
+  const loadedAdminOrders = useRef(0)
+  loadedOrders.current = orders.length
+  loadedAdminOrders.current = adminOrders.length
 
   useEffect(() => {
     if (currentPage === 'products') {
@@ -56,30 +89,108 @@ function App() {
 
   const fetchAdminOrders = async () => {
     try {
-      const headers = token ? { 'Authorization': `Bearer ${token}` } : {}
-      const response = await fetch(`${API_URL}/api/admin/orders`, { headers })
-      const data = await response.json()
-      setAdminOrders(data || [])
+      const page = await fetchOrderPages('/api/admin/orders', token, null, loadedAdminOrders.current)
+      setAdminOrders(page.items)
+      setAdminOrdersCursor(page.cursor)
     } catch (error) {
       console.error('Error fetching admin orders:', error)
       setAdminOrders([])
+      setAdminOrdersCursor(null)
+    }
+  }
+
+  const fetchMoreAdminOrders = async () => {
+    try {
+      const page = await fetchOrderPages('/api/admin/orders', token, adminOrdersCursor, 0)
+      setAdminOrders(loaded => appendOrders(loaded, page.items))
+      setAdminOrdersCursor(page.cursor)
+    } catch (error) {
+      console.error('Error fetching admin orders:', error)
     }
   }
 
   const fetchOrders = async () => {
-    setLoading(true)
+    setLoading(loadedOrders.current === 0)
     try {
-      const headers = token ? { 'Authorization': `Bearer ${token}` } : {}
-      const response = await fetch(`${API_URL}/api/orders`, { headers })
-      const data = await response.json()
-      setOrders(data || [])
+      const page = await fetchOrderPages('/api/orders', token, null, loadedOrders.current)
+      setOrders(page.items)
+      setOrdersCursor(page.cursor)
     } catch (error) {
       console.error('Error fetching orders:', error)
       setOrders([])
+      setOrdersCursor(null)
     }
     setLoading(false)
   }
 
+  const fetchMoreOrders = async () => {
+    try {
+      const page = await fetchOrderPages('/api/orders', token, ordersCursor, 0)
+      setOrders(loaded => appendOrders(loaded, page.items))
+      setOrdersCursor(page.cursor)
+    } catch (error) {
+      console.error('Error fetching orders:', error)
+    }
+  }
+
+  // Live order status updates over Server-Sent Events. Uses fetch rather than
+  // EventSource so the JWT can be sent in the Authorization header.
+  useEffect(() => {
+    if (!token || (currentPage !== 'orders' && currentPage !== 'admin')) return
+    const path = currentPage === 'admin' ? '/api/admin/orders/events' : '/api/orders/events'
+    const controller = new AbortController()
+    let lastEventId = null
+
+    const applyEvent = (name, data) => {
+      if (name === 'reset' || name === 'order-created') {
+        currentPage === 'admin' ? fetchAdminOrders() : fetchOrders()
+        return
+      }
+      const patch = list => list.map(order => order.id === data.orderId ? { ...order, status: data.status } : order)
+      setOrders(patch)
+      setAdminOrders(patch)
+    }
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const headers = { 'Authorization': `Bearer ${token}` }
+          if (lastEventId) headers['Last-Event-ID'] = lastEventId
+          const response = await fetch(`${API_URL}${path}`, { headers, signal: controller.signal })
+          if (!response.ok) throw new Error(`Event stream returned ${response.status}`)
+          const reader = response.body.getReader()
+          const decoder = new TextDecoder()
+          let buffer = ''
+          while (true) {
+            const { done, value } = await reader.read()
+            if (done) break
+            buffer += decoder.decode(value, { stream: true })
+            let boundary
+            while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+              const block = buffer.slice(0, boundary)
+              buffer = buffer.slice(boundary + 2)
+              let name = 'message'
+              let data = ''
+              block.split('\n').forEach(line => {
+                if (line.startsWith('id:')) lastEventId = line.slice(3).trim()
+                else if (line.startsWith('event:')) name = line.slice(6).trim()
+                else if (line.startsWith('data:')) data += line.slice(5)
+              })
+              if (data || name === 'reset') applyEvent(name, data ? JSON.parse(data) : null)
+            }
+          }
+        } catch (error) {
+          if (controller.signal.aborted) return
+          console.error('Order event stream interrupted:', error)
+        }
+        await new Promise(resolve => setTimeout(resolve, 3000))
+      }
+    }
+
+    connect()
+    return () => controller.abort()
+  }, [currentPage, token])
+
   const handleAdminProductChange = (e) => {
     const { name, value } = e.target
     setAdminProductForm(prev => ({
@@ -243,6 +354,10 @@ function App() {
   const handleLogout = () => {
     setToken(null)
     setUser(null)
+    setOrders([])
+    setOrdersCursor(null)
+    setAdminOrders([])
+    setAdminOrdersCursor(null)
     localStorage.removeItem('token')
     setCurrentPage('home')
   }
@@ -714,6 +829,13 @@ function App() {
                       </div>
                     </div>
                   ))}
+                  {ordersCursor && (
+                    <button
+                      onClick={fetchMoreOrders}
+                      className="w-full px-6 py-3 bg-white text-purple-600 font-semibold rounded-2xl shadow-lg hover:shadow-xl transition-all duration-300">
+                      Load More Orders
+                    </button>
+                  )}
                 </div>
               )}
             </div>
@@ -1010,7 +1132,7 @@ function App() {
 
               {/* Orders Management Section */}
               <div className="bg-white rounded-2xl shadow-xl p-8">
-                <h3 className="text-2xl font-bold text-gray-800 mb-6">📋 Manage Orders ({adminOrders.length})</h3>
+                <h3 className="text-2xl font-bold text-gray-800 mb-6">📋 Manage Orders ({adminOrders.length}{adminOrdersCursor ? '+' : ''})</h3>
                 {adminOrders.length === 0 ? (
                   <p className="text-gray-600 text-center py-8">No orders to manage</p>
                 ) : (
@@ -1056,6 +1178,13 @@ function App() {
                         </div>
                       </div>
                     ))}
+                    {adminOrdersCursor && (
+                      <button
+                        onClick={fetchMoreAdminOrders}
+                        className="w-full px-4 py-2 bg-gray-200 text-gray-800 font-semibold rounded-lg hover:bg-gray-300 transition-all">
+                        Load More Orders
+                      </button>
+                    )}
                   </div>
                 )}
               </div>
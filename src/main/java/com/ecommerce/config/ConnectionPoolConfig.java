@@ -0,0 +1,56 @@
+package com.ecommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Attaches ConnectionPoolMetrics to every Hikari pool, whichever
+ * configuration created it. Runs before other post-processors so it sees
+ * the pool itself rather than a wrapper around it. Because the tracker is
+ * set here, Boot's own Hikari binder leaves these pools alone and the
+ * Micrometer side is fed through ConnectionPoolMetrics instead.
+ *
+ * The post-processors look the metrics bean up only when a pool turns up.
+ * Injecting it directly would create it while post-processors are still
+ * being registered, which Spring warns about on every startup.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolMetrics connectionPoolMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionPoolMetrics(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionPoolMetricsPostProcessor(ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics) {
+        return new MetricsPostProcessor(connectionPoolMetrics);
+    }
+
+    private static final class MetricsPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<ConnectionPoolMetrics> metrics;
+
+        MetricsPostProcessor(ObjectProvider<ConnectionPoolMetrics> metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null
+                    && hikari.getMetricRegistry() == null) {
+                hikari.setMetricsTrackerFactory(metrics.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ecommerce.config;
+
+import com.ecommerce.dto.ConnectionPoolStats;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hikari metrics tracker that keeps live numbers per pool in memory: pool
+ * occupancy from Hikari's PoolStats (refreshed about once a second), plus
+ * connection acquire, usage and creation times. Acquire percentiles cover
+ * the most recent SAMPLE_SIZE acquisitions.
+ *
+ * When a MeterRegistry is present each pool is also published through
+ * Hikari's Micrometer tracker (hikaricp.* gauges and timers), so the admin
+ * endpoint and the Prometheus scrape read the same events.
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private static final int SAMPLE_SIZE = 2048;
+
+    private final Map<String, PoolTracker> pools = new ConcurrentHashMap<>();
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionPoolMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        // Pools start on first use, by which point the registry bean can be resolved
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        IMetricsTracker published = registry == null ? null
+                : new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        PoolTracker tracker = new PoolTracker(poolName, poolStats, published);
+        pools.put(poolName, tracker);
+        return tracker;
+    }
+
+    public List<ConnectionPoolStats> snapshot() {
+        List<ConnectionPoolStats> snapshots = new ArrayList<>();
+        for (PoolTracker tracker : pools.values()) {
+            snapshots.add(tracker.snapshot());
+        }
+        return snapshots;
+    }
+
+    private static final class PoolTracker implements IMetricsTracker {
+        private final String poolName;
+        private final PoolStats poolStats;
+        private final IMetricsTracker published;
+        private final long[] acquireSamples = new long[SAMPLE_SIZE];
+        private long acquired;
+        private long acquireTotalNanos;
+        private long acquireMaxNanos;
+        private long timeouts;
+        private long usageCount;
+        private long usageTotalMillis;
+        private long usageMaxMillis;
+        private long created;
+        private long creationTotalMillis;
+
+        PoolTracker(String poolName, PoolStats poolStats, IMetricsTracker published) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+            this.published = published;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            if (published != null) {
+                published.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+            recordAcquired(elapsedAcquiredNanos);
+        }
+
+        private synchronized void recordAcquired(long elapsedAcquiredNanos) {
+            acquireSamples[(int) (acquired % SAMPLE_SIZE)] = elapsedAcquiredNanos;
+            acquired++;
+            acquireTotalNanos += elapsedAcquiredNanos;
+            acquireMaxNanos = Math.max(acquireMaxNanos, elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            if (published != null) {
+                published.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+            recordUsage(elapsedBorrowedMillis);
+        }
+
+        private synchronized void recordUsage(long elapsedBorrowedMillis) {
+            usageCount++;
+            usageTotalMillis += elapsedBorrowedMillis;
+            usageMaxMillis = Math.max(usageMaxMillis, elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            if (published != null) {
+                published.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+            synchronized (this) {
+                created++;
+                creationTotalMillis += connectionCreatedMillis;
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            if (published != null) {
+                published.recordConnectionTimeout();
+            }
+            synchronized (this) {
+                timeouts++;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (published != null) {
+                published.close();
+            }
+        }
+
+        synchronized ConnectionPoolStats snapshot() {
+            long[] recent = Arrays.copyOf(acquireSamples, (int) Math.min(acquired, SAMPLE_SIZE));
+            Arrays.sort(recent);
+            return new ConnectionPoolStats(poolName,
+                    poolStats.getActiveConnections(), poolStats.getIdleConnections(), poolStats.getTotalConnections(),
+                    poolStats.getPendingThreads(), poolStats.getMaxConnections(), poolStats.getMinConnections(),
+                    acquired, timeouts,
+                    acquired == 0 ? 0 : acquireTotalNanos / 1e6 / acquired,
+                    percentileMillis(recent, 0.50), percentileMillis(recent, 0.99), acquireMaxNanos / 1e6,
+                    usageCount == 0 ? 0 : (double) usageTotalMillis / usageCount, usageMaxMillis,
+                    created == 0 ? 0 : (double) creationTotalMillis / created);
+        }
+
+        private static double percentileMillis(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
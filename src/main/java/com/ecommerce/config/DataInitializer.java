@@ -5,12 +5,16 @@ import com.ecommerce.repository.UserRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class DataInitializer {
 
+    // Before StartupWarmup, which signs its requests as this account
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CommandLineRunner initializeAdminUser(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return args -> {
             // Get admin credentials from environment variables
@@ -33,8 +37,20 @@ public class DataInitializer {
             var existing = userRepository.findByUsername(adminUsername);
             if (existing.isPresent()) {
                 User adminUser = existing.get();
+                // Nothing to write when the account already matches; only a changed password is re-encoded
+                boolean passwordMatches = passwordEncoder.matches(adminPassword, adminUser.getPassword());
+                boolean unchanged = passwordMatches
+                        && adminEmail.equals(adminUser.getEmail())
+                        && adminUser.getRole() == User.Role.ADMIN
+                        && Boolean.TRUE.equals(adminUser.getActive())
+                        && adminUser.getFullName() != null && !adminUser.getFullName().isEmpty();
+                if (unchanged) {
+                    return;
+                }
                 adminUser.setEmail(adminEmail);
-                adminUser.setPassword(passwordEncoder.encode(adminPassword));
+                if (!passwordMatches) {
+                    adminUser.setPassword(passwordEncoder.encode(adminPassword));
+                }
                 adminUser.setRole(User.Role.ADMIN);
                 adminUser.setActive(true);
                 if (adminUser.getFullName() == null || adminUser.getFullName().isEmpty()) {
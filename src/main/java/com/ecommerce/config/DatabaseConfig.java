@@ -1,11 +1,12 @@
 package com.ecommerce.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
-import javax.sql.DataSource;
 import java.net.URI;
 import java.net.URISyntaxException;
 
@@ -13,8 +14,10 @@ import java.net.URISyntaxException;
 @Profile("prod")
 public class DatabaseConfig {
 
+    // Binding spring.datasource.hikari.* here is what applies the pool settings to this hand-built pool
     @Bean
-    public DataSource dataSource() {
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource() {
         String databaseUrl = System.getenv("DATABASE_URL");
         
         if (databaseUrl != null && !databaseUrl.isEmpty()) {
@@ -39,6 +42,7 @@ public class DatabaseConfig {
                 
                 return DataSourceBuilder
                         .create()
+                        .type(HikariDataSource.class)
                         .url(jdbcUrl)
                         .username(username)
                         .password(password)
@@ -0,0 +1,24 @@
+package com.ecommerce.config;
+
+import com.ecommerce.jfr.HttpRequestEventFilter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the JFR request filter outermost among the application's
+ * filters, so an HttpRequest event spans SQL tracking, security and the
+ * controller. The filter does nothing unless a recording enables the event.
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FilterRegistrationBean<HttpRequestEventFilter> httpRequestEventFilter() {
+        FilterRegistrationBean<HttpRequestEventFilter> registration =
+                new FilterRegistrationBean<>(new HttpRequestEventFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Response encodings besides JSON: a client that sends
+ * Accept: application/x-jackson-smile or application/cbor gets the same
+ * DTOs in that binary form; everyone else still gets JSON, which stays first
+ * in the converter list.
+ *
+ * The binary mappers come from Boot's Jackson2ObjectMapperBuilder, so they
+ * share spring.jackson.* settings and the modules below with the JSON
+ * mapper. Blackbird replaces reflective getter calls with generated lambdas;
+ * the Hibernate module writes an unloaded lazy association as its id rather
+ * than initializing it mid-serialization.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module hibernateModule() {
+        return new Hibernate6Module()
+                .configure(Hibernate6Module.Feature.FORCE_LAZY_LOADING, false)
+                .configure(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS, true);
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
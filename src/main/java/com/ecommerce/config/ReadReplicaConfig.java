@@ -0,0 +1,108 @@
+package com.ecommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Read/write splitting, enabled by setting app.datasource.replica.url.
+ *
+ * The application's "dataSource" bean (Boot's pool in development,
+ * DatabaseConfig's in prod) stays the primary. A replica pool is built from
+ * app.datasource.replica.* with its own app.datasource.replica.hikari.*
+ * settings, and both are put behind a ReplicaRoutingDataSource. The
+ * replica is not a bean of its own because any extra DataSource bean would
+ * switch off Boot's default pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    // Default lag probe for PostgreSQL streaming replicas; a server that is not in recovery reports zero
+    private static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(Environment environment,
+                                                                ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics) {
+        return new RoutingPostProcessor(environment, connectionPoolMetrics);
+    }
+
+    private static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+        private final ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics;
+
+        RoutingPostProcessor(Environment environment, ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics) {
+            this.environment = environment;
+            this.connectionPoolMetrics = connectionPoolMetrics;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                return bean;
+            }
+            ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary, replicaPool(),
+                    environment.getProperty("app.datasource.replica.max-lag-ms", Long.class, 1000L),
+                    environment.getProperty("app.datasource.replica.sticky-ms", Long.class, 5000L),
+                    environment.getProperty("app.datasource.replica.lag-query", POSTGRES_LAG_QUERY));
+            router.checkReplica();
+            return new RoutingDataSourceProxy(router);
+        }
+
+        private DataSource replicaPool() {
+            HikariDataSource pool = new HikariDataSource();
+            Binder.get(environment).bind("app.datasource.replica.hikari", Bindable.ofInstance(pool));
+            pool.setJdbcUrl(environment.getRequiredProperty("app.datasource.replica.url"));
+            pool.setUsername(environment.getProperty("app.datasource.replica.username",
+                    environment.getProperty("spring.datasource.username")));
+            pool.setPassword(environment.getProperty("app.datasource.replica.password",
+                    environment.getProperty("spring.datasource.password")));
+            if (pool.getPoolName() == null) {
+                pool.setPoolName("ecommerce-replica");
+            }
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(connectionPoolMetrics.getObject());
+            return Threading.VIRTUAL.isActive(environment) ? VirtualThreadConfig.bound(pool, environment) : pool;
+        }
+
+        // Runs after pool metrics and bounded acquisition have wrapped the primary pool,
+        // and before statement counting wraps the result
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+
+    /**
+     * Defers picking a target until the first statement, and closes both
+     * pools on shutdown.
+     */
+    private static final class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements Closeable {
+        private final ReplicaRoutingDataSource router;
+
+        RoutingDataSourceProxy(ReplicaRoutingDataSource router) {
+            super(router);
+            this.router = router;
+        }
+
+        @Override
+        public void close() throws IOException {
+            router.close();
+        }
+    }
+}
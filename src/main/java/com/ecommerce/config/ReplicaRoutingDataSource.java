@@ -0,0 +1,131 @@
+package com.ecommerce.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends read-only transactions declared by the application to the replica
+ * pool and everything else to the primary.
+ *
+ * A read stays on the primary when the replica's last measured lag is
+ * above maxLagMs (or unknown), or when the current user wrote recently
+ * (read-your-writes stickiness for stickyMs after a checkout). Read-only
+ * transactions that Spring Data opens on its own for single repository
+ * calls are left on the primary, so ad-hoc reads right after a write, such
+ * as the cart, never see stale rows.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's
+ * read-only flag is only known once the first statement runs.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final String SPRING_DATA_PREFIX = "org.springframework.data.";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMs;
+    private final long stickyMs;
+    private final String lagQuery;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    private volatile long replicaLagMs = Long.MAX_VALUE;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMs, long stickyMs, String lagQuery) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        this.stickyMs = stickyMs;
+        this.lagQuery = lagQuery;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicaLagMs > maxLagMs) {
+            return Target.PRIMARY;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName == null || transactionName.startsWith(SPRING_DATA_PREFIX)) {
+            return Target.PRIMARY;
+        }
+        String user = currentUser();
+        if (user != null) {
+            Long until = stickyUntil.get(user);
+            if (until != null && until > System.currentTimeMillis()) {
+                return Target.PRIMARY;
+            }
+        }
+        return Target.REPLICA;
+    }
+
+    /**
+     * Pins the current user's reads to the primary for stickyMs.
+     */
+    public void markWrite() {
+        String user = currentUser();
+        if (user != null) {
+            stickyUntil.put(user, System.currentTimeMillis() + stickyMs);
+        }
+    }
+
+    /**
+     * Measures replica lag with the configured query and drops expired
+     * stickiness entries. A failed check takes the replica out of rotation
+     * until the next successful one.
+     */
+    public void checkReplica() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            replicaLagMs = result.next() ? Math.max(0, result.getLong(1)) : Long.MAX_VALUE;
+        } catch (SQLException e) {
+            replicaLagMs = Long.MAX_VALUE;
+        }
+    }
+
+    public long getReplicaLagMs() {
+        return replicaLagMs;
+    }
+
+    public boolean isReplicaInRotation() {
+        return replicaLagMs <= maxLagMs;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource pool : new DataSource[]{replica, primary}) {
+            if (pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
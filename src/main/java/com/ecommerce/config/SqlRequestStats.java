@@ -0,0 +1,118 @@
+package com.ecommerce.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statements executed by one HTTP request: how many, how long they
+ * took, and how often each statement shape repeated. Bound to the request
+ * thread by SqlTrackingFilter and fed by StatementCountingDataSource.
+ *
+ * Statements are keyed by their SQL text as executed (Hibernate already
+ * uses ? placeholders), and only normalised into shapes when the request
+ * is summarised, so the per-statement cost is one map update.
+ */
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, long[]> bySql = new HashMap<>();
+    private int statements;
+    private long nanos;
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        long[] counts = bySql.computeIfAbsent(sql == null ? "" : sql, key -> new long[2]);
+        counts[0]++;
+        counts[1] += elapsedNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public double getTimeMillis() {
+        return nanos / 1e6;
+    }
+
+    /**
+     * SELECT shapes run at least threshold times in this request, most
+     * repeated first. The same query with only different parameters, over
+     * and over, is the usual sign of an N+1 (a lazy association loaded per
+     * row of an earlier result).
+     */
+    public List<Repeat> repeatedSelects(int threshold) {
+        Map<String, Repeat> byShape = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : bySql.entrySet()) {
+            String shape = shapeOf(entry.getKey());
+            if (!shape.startsWith("select")) {
+                continue;
+            }
+            Repeat repeat = byShape.computeIfAbsent(shape, Repeat::new);
+            repeat.count += entry.getValue()[0];
+            repeat.nanos += entry.getValue()[1];
+        }
+        List<Repeat> repeats = new ArrayList<>();
+        for (Repeat repeat : byShape.values()) {
+            if (repeat.count >= threshold) {
+                repeats.add(repeat);
+            }
+        }
+        repeats.sort(Comparator.comparingLong(Repeat::getCount).reversed());
+        return repeats;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?, ...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+
+    public static final class Repeat {
+        private final String shape;
+        private long count;
+        private long nanos;
+
+        Repeat(String shape) {
+            this.shape = shape;
+        }
+
+        public String getShape() {
+            return shape;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getTimeMillis() {
+            return nanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.config;
+
+import com.ecommerce.dto.SqlEndpointStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running per-endpoint totals of the statements each request executed,
+ * keyed by HTTP method and route template. Requests flagged as a likely
+ * N+1 keep the most repeated query shape seen so far for the endpoint.
+ */
+public class SqlStatementTracker {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final int nPlusOneThreshold;
+
+    public SqlStatementTracker(int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public int getNPlusOneThreshold() {
+        return nPlusOneThreshold;
+    }
+
+    void record(String endpoint, SqlRequestStats stats, List<SqlRequestStats.Repeat> repeats) {
+        endpoints.computeIfAbsent(endpoint, Endpoint::new).record(stats, repeats);
+    }
+
+    /** Endpoints with the most statements per request first. */
+    public List<SqlEndpointStats> snapshot() {
+        List<SqlEndpointStats> snapshots = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            snapshots.add(endpoint.snapshot());
+        }
+        snapshots.sort(Comparator.comparingDouble(SqlEndpointStats::getAvgStatements).reversed());
+        return snapshots;
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private long requests;
+        private long statements;
+        private int maxStatements;
+        private double sqlTimeMs;
+        private double maxSqlTimeMs;
+        private long suspectedNPlusOne;
+        private String worstShape;
+        private long worstCount;
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+
+        synchronized void record(SqlRequestStats stats, List<SqlRequestStats.Repeat> repeats) {
+            requests++;
+            statements += stats.getStatements();
+            maxStatements = Math.max(maxStatements, stats.getStatements());
+            sqlTimeMs += stats.getTimeMillis();
+            maxSqlTimeMs = Math.max(maxSqlTimeMs, stats.getTimeMillis());
+            if (!repeats.isEmpty()) {
+                suspectedNPlusOne++;
+                SqlRequestStats.Repeat worst = repeats.get(0);
+                if (worst.getCount() >= worstCount) {
+                    worstShape = worst.getShape();
+                    worstCount = worst.getCount();
+                }
+            }
+        }
+
+        synchronized SqlEndpointStats snapshot() {
+            return new SqlEndpointStats(name, requests,
+                    requests == 0 ? 0 : (double) statements / requests, maxStatements,
+                    requests == 0 ? 0 : sqlTimeMs / requests, maxSqlTimeMs,
+                    suspectedNPlusOne, worstShape, worstCount);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting and N+1 detection. The application's
+ * "dataSource" bean is wrapped in a StatementCountingDataSource, outermost,
+ * so statements are counted whichever pool (primary or replica) runs them,
+ * and SqlTrackingFilter runs ahead of Spring Security so the JWT user
+ * lookup is included.
+ */
+@Configuration
+public class SqlTrackingConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingPostProcessor() {
+        return new StatementCountingPostProcessor();
+    }
+
+    @Bean
+    public SqlStatementTracker sqlStatementTracker(Environment environment) {
+        return new SqlStatementTracker(environment.getProperty("sql.tracking.n-plus-one-threshold", Integer.class, 5));
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlTrackingFilter> sqlTrackingFilter(SqlStatementTracker tracker, Environment environment) {
+        boolean headers = environment.getProperty("sql.tracking.response-headers", Boolean.class, true);
+        FilterRegistrationBean<SqlTrackingFilter> registration =
+                new FilterRegistrationBean<>(new SqlTrackingFilter(tracker, headers));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    private static final class StatementCountingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new StatementCountingDataSource(dataSource);
+        }
+
+        // Last of the DataSource post-processors, so it wraps read/write routing rather than one pool
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
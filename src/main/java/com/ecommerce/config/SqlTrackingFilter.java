@@ -0,0 +1,149 @@
+package com.ecommerce.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tracks the JDBC statements of each request. The count and total time go
+ * into X-SQL-Count / X-SQL-Time-Ms response headers (written just before
+ * the body starts, so they cover everything the controller ran), the log,
+ * and the per-endpoint totals behind /api/admin/sql. A SELECT shape that
+ * repeats at least the configured number of times is reported as a likely
+ * N+1, with X-SQL-N-Plus-One carrying its repeat count.
+ */
+public class SqlTrackingFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String N_PLUS_ONE_HEADER = "X-SQL-N-Plus-One";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlTrackingFilter.class);
+
+    private final SqlStatementTracker tracker;
+    private final boolean responseHeaders;
+
+    public SqlTrackingFilter(SqlStatementTracker tracker, boolean responseHeaders) {
+        this.tracker = tracker;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        HeaderWritingResponse headerWriting = responseHeaders ? new HeaderWritingResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, headerWriting != null ? headerWriting : response);
+        } finally {
+            SqlRequestStats.end();
+            if (headerWriting != null) {
+                headerWriting.writeHeaders();
+            }
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        List<SqlRequestStats.Repeat> repeats = stats.repeatedSelects(tracker.getNPlusOneThreshold());
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (route != null ? route : request.getRequestURI());
+        if (route != null) {
+            tracker.record(endpoint, stats, repeats);
+        }
+        if (!repeats.isEmpty()) {
+            SqlRequestStats.Repeat worst = repeats.get(0);
+            log.warn("{}: {} statements in {} ms, likely N+1: {}x {}", endpoint, stats.getStatements(),
+                    format(stats.getTimeMillis()), worst.getCount(), abbreviate(worst.getShape()));
+        } else if (log.isDebugEnabled()) {
+            log.debug("{}: {} statements in {} ms", endpoint, stats.getStatements(), format(stats.getTimeMillis()));
+        }
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    private static String abbreviate(String shape) {
+        return shape.length() <= 200 ? shape : shape.substring(0, 200) + "...";
+    }
+
+    /**
+     * Adds the SQL headers at the last moment they can still be sent: when
+     * the body is first requested, before an error or redirect, or after
+     * the chain for responses without a body.
+     */
+    private final class HeaderWritingResponse extends HttpServletResponseWrapper {
+        private final SqlRequestStats stats;
+        private boolean written;
+
+        HeaderWritingResponse(HttpServletResponse response, SqlRequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(COUNT_HEADER, String.valueOf(stats.getStatements()));
+            setHeader(TIME_HEADER, format(stats.getTimeMillis()));
+            List<SqlRequestStats.Repeat> repeats = stats.repeatedSelects(tracker.getNPlusOneThreshold());
+            if (!repeats.isEmpty()) {
+                setHeader(N_PLUS_ONE_HEADER, String.valueOf(repeats.get(0).getCount()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.ecommerce.config;
+
+import com.ecommerce.controller.OrderController;
+import com.ecommerce.model.CartItem;
+import com.ecommerce.model.Product;
+import com.ecommerce.model.User;
+import com.ecommerce.repository.CartItemRepository;
+import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.repository.UserRepository;
+import com.ecommerce.security.CustomUserDetailsService;
+import com.ecommerce.security.JwtTokenProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the JVM before the instance reports ready. Runs as the last
+ * ApplicationRunner, so Boot publishes ACCEPTING_TRAFFIC (and
+ * /actuator/health/readiness turns UP) only once it is done; the "warmup"
+ * health indicator in the readiness group says the same and, for admins,
+ * how long each step took.
+ *
+ * Steps: open the primary pool up to its maximum size, load the active
+ * catalog once so the database has it in memory, then send
+ * warmup.iterations rounds of synthetic requests through the local port:
+ * product listing, product by id, category, search, and with a token for
+ * warmup.username the JWT filter, cart and order history. Every request is a
+ * GET: warmup.username is a real account, so nothing sent over HTTP may place
+ * an order or change its cart.
+ *
+ * Checkout is warmed in-process instead, warmup.checkout-iterations times,
+ * each in a transaction that is always rolled back: the account's cart is
+ * swapped for one line of an in-stock product and OrderController.createOrder
+ * runs against it. The order, stock change, outbox row and cart change all
+ * disappear with the rollback, and after-commit listeners (stats, rollups,
+ * journal, event stream) never see the order. The app.orders.create timer
+ * does count these checkouts, and the order ids they took are not reused.
+ *
+ * warmup.max-duration-ms caps the whole run; failures are logged and never
+ * keep the instance from becoming ready. Off unless warmup.enabled is set.
+ */
+@Component("warmup")
+public class StartupWarmup implements ApplicationRunner, HealthIndicator, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    @Value("${warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${warmup.iterations:200}")
+    private int iterations;
+
+    @Value("${warmup.max-duration-ms:60000}")
+    private long maxDurationMs;
+
+    // Negative: the pool's maximum size
+    @Value("${warmup.pool-connections:-1}")
+    private int poolConnections;
+
+    @Value("${warmup.checkout-iterations:50}")
+    private int checkoutIterations;
+
+    @Value("${warmup.username:admin}")
+    private String username;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private OrderController orderController;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+    private volatile boolean finished;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            finished = true;
+            return;
+        }
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        long compileStartedMs = compiler.isCompilationTimeMonitoringSupported() ? compiler.getTotalCompilationTime() : 0;
+        try {
+            step("pool", () -> report.put("poolConnections", fillPool()));
+            List<Product> catalog = new ArrayList<>();
+            step("catalog", () -> {
+                catalog.addAll(productRepository.findByActiveTrue());
+                report.put("catalogProducts", catalog.size());
+            });
+            step("requests", () -> sendRequests(catalog, deadline));
+            step("checkout", () -> report.put("checkouts", warmCheckout(catalog, deadline)));
+        } catch (RuntimeException e) {
+            log.warn("Warm-up stopped early: {}", e.toString());
+            report.put("error", e.toString());
+        } finally {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            if (compiler.isCompilationTimeMonitoringSupported()) {
+                report.put("jitMs", compiler.getTotalCompilationTime() - compileStartedMs);
+            }
+            report.put("elapsedMs", elapsedMs);
+            meterRegistry.timer("app.warmup").record(elapsedMs, TimeUnit.MILLISECONDS);
+            finished = true;
+            log.info("Warm-up finished in {} ms: {}", elapsedMs, report);
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (!enabled) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        if (!finished) {
+            return Health.outOfService().withDetail("inProgress", true).build();
+        }
+        return Health.up().withDetails(report).build();
+    }
+
+    // Last, after DataInitializer has made sure the warm-up account exists
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private void step(String name, Runnable step) {
+        long started = System.nanoTime();
+        step.run();
+        report.put(name + "Ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /** Holds connections open together so the pool creates them now rather than under the first burst. */
+    private int fillPool() {
+        int target = poolConnections;
+        if (target < 0) {
+            try {
+                target = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            } catch (SQLException e) {
+                return 0;
+            }
+        }
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                held.add(connection);
+                // Lazy and routing wrappers only borrow from the pool once the connection is used
+                connection.isValid(5);
+            }
+        } catch (SQLException e) {
+            log.warn("Warm-up opened {} of {} connections: {}", held.size(), target, e.getMessage());
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // Already broken; the pool evicts it
+                }
+            }
+        }
+        return held.size();
+    }
+
+    private void sendRequests(List<Product> catalog, long deadline) {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            report.put("requests", 0);
+            return;
+        }
+        String base = "http://localhost:" + port + environment.getProperty("server.servlet.context-path", "");
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        String token = null;
+        if (userRepository.findByUsername(username).isPresent()) {
+            UserDetails details = userDetailsService.loadUserByUsername(username);
+            token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+        }
+
+        int sent = 0;
+        int failed = 0;
+        int rounds = 0;
+        for (; rounds < iterations && System.nanoTime() < deadline; rounds++) {
+            List<HttpRequest> round = new ArrayList<>();
+            round.add(get(base + "/api/products", null));
+            if (!catalog.isEmpty()) {
+                Product product = catalog.get(rounds % catalog.size());
+                round.add(get(base + "/api/products/" + product.getId(), null));
+                if (product.getCategory() != null) {
+                    round.add(get(base + "/api/products/category/" + encode(product.getCategory()), null));
+                }
+                String[] words = product.getName().split("\\s+");
+                round.add(get(base + "/api/products/search?name=" + encode(words[rounds % words.length]), null));
+            }
+            if (token != null) {
+                round.add(get(base + "/api/cart", token));
+                round.add(get(base + "/api/orders?limit=20", token));
+                round.add(get(base + "/api/orders?limit=20&summary=true", token));
+            }
+            for (HttpRequest request : round) {
+                sent++;
+                try {
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status >= 400) {
+                        failed++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted", e);
+                    }
+                }
+            }
+        }
+        report.put("rounds", rounds);
+        report.put("requests", sent);
+        report.put("failedRequests", failed);
+        report.put("authenticated", token != null);
+        if (failed > 0) {
+            log.warn("Warm-up: {} of {} requests failed", failed, sent);
+        }
+    }
+
+    /** Runs checkout in rolled-back transactions and returns how many of them created an order. */
+    private int warmCheckout(List<Product> catalog, long deadline) {
+        Optional<User> account = userRepository.findByUsername(username);
+        List<Long> inStock = new ArrayList<>();
+        for (Product product : catalog) {
+            if (product.getStockQuantity() != null && product.getStockQuantity() > 0) {
+                inStock.add(product.getId());
+            }
+        }
+        if (account.isEmpty() || inStock.isEmpty()) {
+            return 0;
+        }
+        User user = account.get();
+        UserDetails details = userDetailsService.loadUserByUsername(username);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities());
+        TransactionTemplate rolledBack = new TransactionTemplate(transactionManager);
+
+        int created = 0;
+        for (int round = 0; round < checkoutIterations && System.nanoTime() < deadline; round++) {
+            Long productId = inStock.get(round % inStock.size());
+            Boolean placed = rolledBack.execute(transaction -> {
+                transaction.setRollbackOnly();
+                cartItemRepository.deleteByUser(user);
+                cartItemRepository.save(new CartItem(null, user, productRepository.getReferenceById(productId), 1, null));
+                return orderController.createOrder("Warm-up", "COD", authentication).getStatusCode() == HttpStatus.CREATED;
+            });
+            if (Boolean.TRUE.equals(placed)) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    private static HttpRequest get(String uri, String token) {
+        return request(uri, token).GET().build();
+    }
+
+    private static HttpRequest.Builder request(String uri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Extra wiring for spring.threads.virtual.enabled=true on Java 21+. Spring
+ * Boot itself moves Tomcat request handling, @Async and @Scheduled work onto
+ * virtual threads; here every Hikari pool is wrapped in a BoundedDataSource
+ * so the much larger number of request threads queues fairly for the small
+ * connection pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        return new BoundedPoolPostProcessor(environment);
+    }
+
+    /**
+     * Bounds acquisition from one pool; db.acquire.max-concurrent, when set,
+     * overrides the pool's maximum size for every pool.
+     */
+    static BoundedDataSource bound(HikariDataSource pool, Environment environment) {
+        int maxConcurrent = environment.getProperty("db.acquire.max-concurrent", Integer.class, pool.getMaximumPoolSize());
+        long timeoutMs = environment.getProperty("db.acquire.timeout-ms", Long.class, 2000L);
+        return new BoundedDataSource(pool, maxConcurrent, timeoutMs);
+    }
+
+    // Ordered so it wraps the pool itself, after pool metrics attach and before read/write routing
+    private static final class BoundedPoolPostProcessor implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+
+        BoundedPoolPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof HikariDataSource pool ? bound(pool, environment) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+}
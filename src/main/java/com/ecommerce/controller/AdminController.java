@@ -1,16 +1,39 @@
 package com.ecommerce.controller;
 
+import com.ecommerce.config.ConnectionPoolMetrics;
+import com.ecommerce.config.SqlStatementTracker;
 import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.BulkStatusUpdateRequest;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.dto.ProductResponse;
+import com.ecommerce.dto.StatusTransitionResult;
+import com.ecommerce.jfr.FlightRecording;
 import com.ecommerce.model.Order;
 import com.ecommerce.model.Product;
 import com.ecommerce.repository.OrderRepository;
 import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.service.JournalReplayService;
+import com.ecommerce.service.OrderArchiveService;
+import com.ecommerce.service.OrderEventStream;
+import com.ecommerce.service.OrderExportService;
+import com.ecommerce.service.OrderQueryService;
+import com.ecommerce.service.OrderStatsService;
+import com.ecommerce.service.OrderStatusService;
+import com.ecommerce.service.OutboxDispatcher;
+import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +50,39 @@ public class AdminController {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderEventStream orderEventStream;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private JournalReplayService journalReplayService;
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
+    @Autowired
+    private SqlStatementTracker sqlStatementTracker;
+
+    @Autowired
+    private FlightRecording flightRecording;
+
     // ==================== PRODUCTS ====================
     
     @PostMapping("/products")
@@ -34,7 +90,7 @@ public class AdminController {
         try {
             product.setActive(true);
             Product savedProduct = productRepository.save(product);
-            return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
+            return ResponseEntity.status(HttpStatus.CREATED).body(ProductResponse.from(savedProduct));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("Error adding product: " + e.getMessage()));
@@ -42,9 +98,8 @@ public class AdminController {
     }
 
     @GetMapping("/products")
-    public ResponseEntity<List<Product>> getAllProductsForAdmin() {
-        List<Product> products = productRepository.findAll();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<List<ProductResponse>> getAllProductsForAdmin() {
+        return ResponseEntity.ok(ProductResponse.from(productRepository.findAll()));
     }
 
     @PutMapping("/products/{id}")
@@ -58,7 +113,7 @@ public class AdminController {
                     if (productDetails.getDiscount() != null) product.setDiscount(productDetails.getDiscount());
                     if (productDetails.getCategory() != null) product.setCategory(productDetails.getCategory());
                     
-                    return ResponseEntity.ok(productRepository.save(product));
+                    return ResponseEntity.ok(ProductResponse.from(productRepository.save(product)));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -77,14 +132,43 @@ public class AdminController {
     // ==================== ORDERS ====================
     
     @GetMapping("/orders")
-    public ResponseEntity<List<Order>> getAllOrders() {
-        List<Order> orders = orderRepository.findAll();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<?> getAllOrders(OrderSearchRequest request) {
+        try {
+            return OrderController.toResponse(orderQueryService.findOrdersForAdmin(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid cursor: " + request.getCursor()));
+        }
+    }
+
+    @GetMapping("/orders/export")
+    public void exportOrders(@RequestParam(defaultValue = "csv") String format,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                             HttpServletResponse response) throws IOException {
+        OrderExportService.Format exportFormat;
+        try {
+            exportFormat = OrderExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid format: " + format);
+            return;
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"orders." + exportFormat.name().toLowerCase() + "\"");
+        orderExportService.export(exportFormat, from, to, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return orderEventStream.subscribe(null, lastEventId);
     }
 
     @GetMapping("/orders/{id}")
     public ResponseEntity<?> getOrderById(@PathVariable Long id) {
-        return orderRepository.findById(id)
+        return orderQueryService.findOrderForAdmin(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -98,20 +182,98 @@ public class AdminController {
                     .body(ApiResponse.error("Status is required"));
         }
 
+        Order.OrderStatus status;
         try {
-            Order.OrderStatus status = Order.OrderStatus.valueOf(statusStr.toUpperCase());
-            
-            return orderRepository.findById(id)
-                    .map(order -> {
-                        order.setStatus(status);
-                        Order updatedOrder = orderRepository.save(order);
-                        return ResponseEntity.ok(updatedOrder);
-                    })
-                    .orElse(ResponseEntity.notFound().build());
+            status = Order.OrderStatus.valueOf(statusStr.toUpperCase());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Invalid status: " + statusStr));
         }
+
+        StatusTransitionResult result = orderStatusService.updateStatus(id, status);
+        switch (result.getOutcome()) {
+            case NOT_FOUND:
+                return ResponseEntity.notFound().build();
+            case INVALID_TRANSITION:
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponse.error("Cannot change order status from " + result.getPreviousStatus() + " to " + status));
+            default:
+                return orderQueryService.findOrderForAdmin(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build());
+        }
+    }
+
+    @PostMapping("/orders/status")
+    public ResponseEntity<?> bulkUpdateOrderStatus(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        try {
+            if (request.getIds() != null && !request.getIds().isEmpty()) {
+                return ResponseEntity.ok(orderStatusService.transition(request.getIds(), request.getStatus()));
+            }
+            if (request.getFilter() != null) {
+                return ResponseEntity.ok(orderStatusService.updateStatus(request.getFilter(), request.getStatus()));
+            }
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Either ids or filter is required"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/orders/archive")
+    public ResponseEntity<?> archiveCompletedOrders() {
+        int archived = orderArchiveService.archiveCompletedOrders();
+        return ResponseEntity.ok(ApiResponse.success("Archived " + archived + " orders"));
+    }
+
+    // ==================== OUTBOX ====================
+
+    @GetMapping("/outbox")
+    public ResponseEntity<?> getOutboxStatus() {
+        return ResponseEntity.ok(outboxDispatcher.getStatus());
+    }
+
+    // ==================== JOURNAL ====================
+
+    @PostMapping("/journal/replay")
+    public ResponseEntity<?> replayJournal(@RequestParam(defaultValue = "false") boolean apply) {
+        try {
+            return ResponseEntity.ok(journalReplayService.replay(apply));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // ==================== DATABASE ====================
+
+    @GetMapping("/db/pool")
+    public ResponseEntity<?> getConnectionPoolStats() {
+        return ResponseEntity.ok(connectionPoolMetrics.snapshot());
+    }
+
+    @GetMapping("/sql")
+    public ResponseEntity<?> getSqlStatementStats() {
+        return ResponseEntity.ok(sqlStatementTracker.snapshot());
+    }
+
+    @DeleteMapping("/sql")
+    public ResponseEntity<?> resetSqlStatementStats() {
+        sqlStatementTracker.reset();
+        return ResponseEntity.ok(ApiResponse.success("SQL statement stats reset"));
+    }
+
+    // ==================== FLIGHT RECORDING ====================
+
+    @PostMapping("/jfr/dump")
+    public ResponseEntity<?> dumpFlightRecording() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Recording written to " + flightRecording.dump()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(ApiResponse.error("Could not write recording: " + e.getMessage()));
+        }
     }
 
     // ==================== DASHBOARD STATS ====================
@@ -119,18 +281,26 @@ public class AdminController {
     @GetMapping("/stats")
     public ResponseEntity<?> getDashboardStats() {
         try {
+            OrderStatsService.Snapshot orderStats = orderStatsService.snapshot();
+
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalProducts", productRepository.count());
-            stats.put("totalOrders", orderRepository.count());
-            stats.put("totalRevenue", orderRepository.findAll().stream()
-                    .mapToDouble(order -> order.getTotalAmount().doubleValue())
-                    .sum());
-            stats.put("totalPendingOrders", orderRepository.findByStatus(Order.OrderStatus.PENDING).size());
-            
+            stats.put("totalOrders", orderStats.getTotalOrders());
+            stats.put("totalRevenue", orderStats.getTotalRevenue());
+            stats.put("totalPendingOrders", orderStats.getCountByStatus().get(Order.OrderStatus.PENDING));
+            stats.put("ordersByStatus", orderStats.getCountByStatus());
+            stats.put("revenueByStatus", orderStats.getRevenueByStatus());
+
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Error fetching stats: " + e.getMessage()));
         }
     }
+
+    @PostMapping("/stats/reload")
+    public ResponseEntity<?> reloadDashboardStats() {
+        orderStatsService.reload();
+        return ResponseEntity.ok(ApiResponse.success("Stats reloaded from orders table"));
+    }
 }
@@ -0,0 +1,39 @@
+package com.ecommerce.controller;
+
+import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.SalesBucketResponse;
+import com.ecommerce.service.SalesRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('ADMIN')")
+public class AnalyticsController {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesBucketResponse>> getSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") SalesRollupService.Granularity granularity,
+            @RequestParam(defaultValue = "false") boolean byCategory,
+            @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(salesRollupService.getSales(from, to, granularity, byCategory, category));
+    }
+
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<?> rebuildRollups() {
+        int buckets = salesRollupService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("Rebuilt " + buckets + " sales buckets"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.controller;
 
 import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.CartItemResponse;
 import com.ecommerce.model.CartItem;
 import com.ecommerce.model.Product;
 import com.ecommerce.model.User;
@@ -10,6 +11,7 @@ import com.ecommerce.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,12 +31,15 @@ public class CartController {
     private UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<List<CartItem>> getCart(Authentication authentication) {
+    public ResponseEntity<List<CartItemResponse>> getCart(Authentication authentication) {
         User user = getCurrentUser(authentication);
-        return ResponseEntity.ok(cartItemRepository.findByUser(user));
+        return ResponseEntity.ok(cartItemRepository.findWithProductByUser(user).stream()
+                .map(CartItemResponse::from)
+                .toList());
     }
 
     @PostMapping("/add/{productId}")
+    @Transactional
     public ResponseEntity<?> addToCart(@PathVariable Long productId, 
                                       @RequestParam(defaultValue = "1") Integer quantity,
                                       Authentication authentication) {
@@ -66,6 +71,7 @@ public class CartController {
     }
 
     @PutMapping("/update/{cartItemId}")
+    @Transactional
     public ResponseEntity<?> updateCartItem(@PathVariable Long cartItemId,
                                            @RequestParam Integer quantity,
                                            Authentication authentication) {
@@ -86,6 +92,7 @@ public class CartController {
     }
 
     @DeleteMapping("/remove/{cartItemId}")
+    @Transactional
     public ResponseEntity<?> removeFromCart(@PathVariable Long cartItemId,
                                            Authentication authentication) {
         User user = getCurrentUser(authentication);
@@ -100,6 +107,7 @@ public class CartController {
     }
 
     @DeleteMapping("/clear")
+    @Transactional
     public ResponseEntity<?> clearCart(Authentication authentication) {
         User user = getCurrentUser(authentication);
         cartItemRepository.deleteByUser(user);
@@ -1,17 +1,31 @@
 package com.ecommerce.controller;
 
 import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.CursorPage;
+import com.ecommerce.dto.OrderResponse;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.dto.StatusTransitionResult;
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.jfr.CheckoutEvent;
 import com.ecommerce.model.*;
 import com.ecommerce.repository.*;
+import com.ecommerce.service.OrderEventStream;
+import com.ecommerce.service.OrderQueryService;
+import com.ecommerce.service.OrderStatusService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @RestController
@@ -19,6 +33,8 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class OrderController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -31,18 +47,52 @@ public class OrderController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OrderEventStream orderEventStream;
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @GetMapping
-    public ResponseEntity<List<Order>> getUserOrders(Authentication authentication) {
+    public ResponseEntity<?> getUserOrders(@RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "20") int limit,
+                                           @RequestParam(defaultValue = "false") boolean summary,
+                                           Authentication authentication) {
         User user = getCurrentUser(authentication);
-        return ResponseEntity.ok(orderRepository.findByUserOrderByCreatedAtDesc(user));
+        OrderSearchRequest request = OrderSearchRequest.forUser(user.getId(), cursor, limit);
+
+        try {
+            CursorPage<?> page = summary
+                    ? orderQueryService.findOrderSummaries(request)
+                    : orderQueryService.findOrders(request);
+            return toResponse(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid cursor: " + cursor));
+        }
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                        Authentication authentication) {
+        User user = getCurrentUser(authentication);
+        return orderEventStream.subscribe(user.getId(), lastEventId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getOrderById(@PathVariable Long id, Authentication authentication) {
         User user = getCurrentUser(authentication);
         
-        return orderRepository.findById(id)
-                .filter(order -> order.getUser().getId().equals(user.getId()))
+        return orderQueryService.findOrderForUser(id, user.getId())
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -52,77 +102,109 @@ public class OrderController {
     public ResponseEntity<?> createOrder(@RequestParam String shippingAddress,
                                         @RequestParam(defaultValue = "COD") String paymentMethod,
                                         Authentication authentication) {
-        User user = getCurrentUser(authentication);
+        // Covers validation, stock updates and the inserts; the commit is timed by http.server.requests
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CheckoutEvent checkout = new CheckoutEvent();
+        checkout.begin();
+        TransactionSynchronizationManager.registerSynchronization(checkout.completion());
+        try {
+            User user = getCurrentUser(authentication);
         
-        List<CartItem> cartItems = cartItemRepository.findByUser(user);
+            List<CartItem> cartItems = cartItemRepository.findWithProductByUser(user);
+            checkout.setLines(cartItems.size());
         
-        if (cartItems.isEmpty()) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Cart is empty"));
-        }
-
-        // Check stock availability
-        for (CartItem item : cartItems) {
-            if (item.getProduct().getStockQuantity() < item.getQuantity()) {
+            if (cartItems.isEmpty()) {
+                checkout.setOutcome("empty_cart");
                 return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Insufficient stock for " + item.getProduct().getName()));
+                        .body(ApiResponse.error("Cart is empty"));
             }
-        }
 
-        // Create order
-        Order order = new Order();
-        order.setUser(user);
-        order.setShippingAddress(shippingAddress);
-        order.setPaymentMethod(paymentMethod);
-        order.setStatus(Order.OrderStatus.PENDING);
-
-        BigDecimal totalAmount = BigDecimal.ZERO;
-
-        // Add order items
-        for (CartItem cartItem : cartItems) {
-            OrderItem orderItem = new OrderItem();
-            orderItem.setOrder(order);
-            orderItem.setProduct(cartItem.getProduct());
-            orderItem.setQuantity(cartItem.getQuantity());
-            orderItem.setPrice(cartItem.getProduct().getPrice());
-            
-            order.getOrderItems().add(orderItem);
+            // Check stock availability
+            long stockCheckStarted = System.nanoTime();
+            for (CartItem item : cartItems) {
+                if (item.getProduct().getStockQuantity() < item.getQuantity()) {
+                    checkout.setOutcome("insufficient_stock");
+                    return ResponseEntity.badRequest()
+                            .body(ApiResponse.error("Insufficient stock for " + item.getProduct().getName()));
+                }
+            }
+            checkout.setStockCheckTime(System.nanoTime() - stockCheckStarted);
+
+            // Create order
+            Order order = new Order();
+            order.setUser(user);
+            order.setShippingAddress(shippingAddress);
+            order.setPaymentMethod(paymentMethod);
+            order.setStatus(Order.OrderStatus.PENDING);
+
+            // Add order items
+            for (CartItem cartItem : cartItems) {
+                OrderItem orderItem = new OrderItem();
+                orderItem.setOrder(order);
+                orderItem.setProduct(cartItem.getProduct());
+                orderItem.setQuantity(cartItem.getQuantity());
+                orderItem.setPrice(cartItem.getProduct().getPrice());
+                orderItem.setCategory(SalesRollup.categoryOf(cartItem.getProduct().getCategory()));
             
-            BigDecimal itemTotal = cartItem.getProduct().getPrice()
-                    .multiply(BigDecimal.valueOf(cartItem.getQuantity()));
-            totalAmount = totalAmount.add(itemTotal);
-
-            // Update stock
-            Product product = cartItem.getProduct();
-            product.setStockQuantity(product.getStockQuantity() - cartItem.getQuantity());
-            productRepository.save(product);
-        }
+                order.getOrderItems().add(orderItem);
+
+                // Update stock
+                Product product = cartItem.getProduct();
+                product.setStockQuantity(product.getStockQuantity() - cartItem.getQuantity());
+                productRepository.save(product);
+            }
 
-        order.setTotalAmount(totalAmount);
-        Order savedOrder = orderRepository.save(order);
+            // Summed in exact cents, see Money
+            order.setTotalAmount(order.calculateTotalAmount());
+            Order savedOrder = orderRepository.save(order);
+            eventPublisher.publishEvent(OrderCreatedEvent.of(savedOrder));
+            checkout.setOrderId(savedOrder.getId());
+            checkout.setOutcome("created");
 
-        // Clear cart
-        cartItemRepository.deleteByUser(user);
+            // Clear cart
+            cartItemRepository.deleteByUser(user);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedOrder);
+            return ResponseEntity.status(HttpStatus.CREATED).body(OrderResponse.from(savedOrder));
+        } finally {
+            sample.stop(meterRegistry.timer("app.orders.create"));
+        }
     }
 
     @PutMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> updateOrderStatus(@PathVariable Long id, 
                                                @RequestParam Order.OrderStatus status) {
-        return orderRepository.findById(id)
-                .map(order -> {
-                    order.setStatus(status);
-                    return ResponseEntity.ok(orderRepository.save(order));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        StatusTransitionResult result = orderStatusService.updateStatus(id, status);
+        switch (result.getOutcome()) {
+            case NOT_FOUND:
+                return ResponseEntity.notFound().build();
+            case INVALID_TRANSITION:
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponse.error("Cannot change order status from " + result.getPreviousStatus() + " to " + status));
+            default:
+                return orderQueryService.findOrderForAdmin(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build());
+        }
     }
 
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderRepository.findAll());
+    public ResponseEntity<?> getAllOrders(OrderSearchRequest request) {
+        try {
+            return toResponse(orderQueryService.findOrdersForAdmin(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid cursor: " + request.getCursor()));
+        }
+    }
+
+    static ResponseEntity<List<?>> toResponse(CursorPage<?> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     private User getCurrentUser(Authentication authentication) {
@@ -1,14 +1,18 @@
 package com.ecommerce.controller;
 
+import com.ecommerce.dto.ProductResponse;
+import com.ecommerce.jfr.CatalogReadEvent;
 import com.ecommerce.model.Product;
 import com.ecommerce.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
@@ -19,33 +23,49 @@ public class ProductController {
     private ProductRepository productRepository;
 
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productRepository.findByActiveTrue());
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ProductResponse>> getAllProducts() {
+        CatalogReadEvent event = CatalogReadEvent.start("list", null);
+        List<Product> products = productRepository.findByActiveTrue();
+        event.finish(products.size());
+        return ResponseEntity.ok(ProductResponse.from(products));
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getProductById(@PathVariable Long id) {
-        return productRepository.findById(id)
-                .map(ResponseEntity::ok)
+        CatalogReadEvent event = CatalogReadEvent.start("id", String.valueOf(id));
+        Optional<Product> product = productRepository.findById(id);
+        event.finish(product.isPresent() ? 1 : 0);
+        return product
+                .map(found -> ResponseEntity.ok(ProductResponse.from(found)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(productRepository.findByCategory(category));
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ProductResponse>> getProductsByCategory(@PathVariable String category) {
+        CatalogReadEvent event = CatalogReadEvent.start("category", category);
+        List<Product> products = productRepository.findByCategory(category);
+        event.finish(products.size());
+        return ResponseEntity.ok(ProductResponse.from(products));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Product>> searchProducts(@RequestParam String name) {
-        return ResponseEntity.ok(productRepository.findByNameContainingIgnoreCase(name));
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ProductResponse>> searchProducts(@RequestParam String name) {
+        CatalogReadEvent event = CatalogReadEvent.start("search", name);
+        List<Product> products = productRepository.findByNameContainingIgnoreCase(name);
+        event.finish(products.size());
+        return ResponseEntity.ok(ProductResponse.from(products));
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Product> createProduct(@RequestBody Product product) {
+    public ResponseEntity<ProductResponse> createProduct(@RequestBody Product product) {
         product.setActive(true);
         Product savedProduct = productRepository.save(product);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ProductResponse.from(savedProduct));
     }
 
     @PutMapping("/{id}")
@@ -59,7 +79,7 @@ public class ProductController {
                     product.setStockQuantity(productDetails.getStockQuantity());
                     product.setCategory(productDetails.getCategory());
                     product.setImageUrl(productDetails.getImageUrl());
-                    return ResponseEntity.ok(productRepository.save(product));
+                    return ResponseEntity.ok(ProductResponse.from(productRepository.save(product)));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
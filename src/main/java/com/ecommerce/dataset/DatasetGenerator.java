@@ -0,0 +1,369 @@
+package com.ecommerce.dataset;
+
+import com.ecommerce.model.CartItem;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.OrderItem;
+import com.ecommerce.model.Product;
+import com.ecommerce.model.User;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic data at production scale: users, products, orders
+ * with their items, and open carts, streamed to a DatasetSink so nothing
+ * but a few per-product arrays is held in memory.
+ *
+ * The shape is meant to stress the same paths real traffic does. Product
+ * popularity is Zipf-like, so a few hundred products carry most order
+ * lines; orders per user follow a capped Pareto distribution, so most
+ * users have a handful of orders and a few have hundreds; and order
+ * timestamps follow growth over the history, a daily cycle, busier
+ * weekends and peaks around late November and December. Order ids rise
+ * with created_at, as they would in production.
+ *
+ * Against a database whose schema the application has already created:
+ *
+ *   java -cp ecommerce-api.jar -Dloader.main=com.ecommerce.dataset.DatasetGenerator \
+ *        org.springframework.boot.loader.launch.PropertiesLauncher \
+ *        'jdbc:postgresql://localhost:5432/ecommerce_db?reWriteBatchedInserts=true' ecommerce_user ecommerce_password \
+ *        orders=5000000 users=500000 seed=7
+ */
+public class DatasetGenerator {
+
+    private static final String[] ADJECTIVES = {"Pro", "Max", "Mini", "Smart", "Classic", "Eco", "Ultra", "Lite",
+            "Compact", "Deluxe", "Urban", "Vintage", "Wireless", "Organic", "Premium", "Travel"};
+    private static final String[] NOUNS = {"Phone", "Lamp", "Kettle", "Chair", "Backpack", "Watch", "Speaker",
+            "Desk", "Jacket", "Blender", "Headphones", "Sneakers", "Novel", "Camera", "Mug", "Tent"};
+    private static final String[] FIRST_NAMES = {"Amina", "Brian", "Chen", "Divya", "Elena", "Femi", "Grace",
+            "Hassan", "Ines", "James", "Kofi", "Lena", "Mateo", "Nia", "Omar", "Priya", "Rosa", "Sam", "Tariq", "Wanjiru"};
+    private static final String[] LAST_NAMES = {"Achieng", "Brown", "Costa", "Dubois", "Evans", "Fischer", "Garcia",
+            "Hughes", "Ito", "Kamau", "Lopez", "Mensah", "Nowak", "Okafor", "Patel", "Rossi", "Silva", "Wang"};
+    private static final String[] STREETS = {"Main Street", "Market Road", "Station Avenue", "Park Lane",
+            "River Drive", "Hill Road", "Church Street", "Garden Close"};
+    private static final String[] CITIES = {"Nairobi", "Mombasa", "Kisumu", "Nakuru", "Eldoret", "Thika"};
+    private static final String[] PAYMENT_METHODS = {"COD", "COD", "CARD", "CARD", "CARD", "MPESA"};
+
+    // Relative order volume by hour of day: quiet overnight, evening peak
+    private static final double[] HOURLY = {0.35, 0.2, 0.12, 0.08, 0.07, 0.1, 0.2, 0.4, 0.6, 0.75, 0.85, 0.9,
+            1.0, 0.95, 0.9, 0.9, 0.95, 1.0, 1.1, 1.25, 1.35, 1.3, 1.0, 0.65};
+
+    private static final double PRODUCT_ZIPF_EXPONENT = 1.05;
+    private static final double USER_PARETO_ALPHA = 1.2;
+    private static final double USER_WEIGHT_CAP = 200;
+
+    private final DatasetSpec spec;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: DatasetGenerator <jdbc-url> <username> <password> [name=value ...]");
+            System.exit(2);
+        }
+        DatasetSpec spec = new DatasetSpec().apply(Arrays.copyOfRange(args, 3, args.length));
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(args[0], args[1], args[2]);
+        GeneratedDataset dataset;
+        try (JdbcDatasetSink sink = new JdbcDatasetSink(dataSource, spec.getBatchSize())) {
+            dataset = new DatasetGenerator(spec).generate(sink);
+        }
+        System.out.println(dataset);
+    }
+
+    public GeneratedDataset generate(DatasetSink sink) {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        LocalDateTime end = spec.getEnd();
+        LocalDateTime start = end.minusDays(spec.getHistoryDays());
+
+        long firstUserId = sink.firstId("users");
+        long firstProductId = sink.firstId("products");
+        long orderId = sink.firstId("orders");
+        long orderItemId = sink.firstId("order_items");
+        long cartItemId = sink.firstId("cart_items");
+
+        List<String> categories = new ArrayList<>();
+        for (int i = 0; i < spec.getCategories(); i++) {
+            categories.add(spec.category(i));
+        }
+
+        writeUsers(sink, random, firstUserId, start);
+        String[] productCategories = new String[spec.getProducts()];
+        BigDecimal[] prices = writeProducts(sink, random, firstProductId, categories, productCategories, start);
+
+        int[] productsByPopularity = shuffledIndexes(spec.getProducts(), random);
+        Weighted productPicker = zipf(productsByPopularity);
+        Weighted userPicker = paretoUsers(random);
+
+        long orderItems = 0;
+        if (spec.getOrders() > 0 && spec.getUsers() > 0 && spec.getProducts() > 0) {
+            long[] orderTimes = orderTimes(random, start);
+            long endEpoch = end.toEpochSecond(ZoneOffset.UTC);
+            for (long createdEpoch : orderTimes) {
+                int userIndex = userPicker.pick(random);
+                Order order = new Order();
+                order.setId(orderId++);
+                order.setUser(userStub(firstUserId + userIndex));
+                order.setShippingAddress(address(userIndex));
+                order.setPaymentMethod(PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)]);
+                order.setCreatedAt(LocalDateTime.ofEpochSecond(createdEpoch, 0, ZoneOffset.UTC));
+                setStatus(order, random, (endEpoch - createdEpoch) / 86_400.0);
+
+                for (int productIndex : distinctProducts(random, productPicker, orderLines(random, spec.getMaxOrderLines()))) {
+                    OrderItem item = new OrderItem();
+                    item.setId(orderItemId++);
+                    item.setOrder(order);
+                    item.setProduct(productStub(firstProductId + productIndex));
+                    item.setQuantity(random.nextInt(8) == 0 ? 2 + random.nextInt(3) : 1);
+                    item.setPrice(prices[productIndex]);
+                    item.setCategory(productCategories[productIndex]);
+                    order.getOrderItems().add(item);
+                }
+                order.setTotalAmount(order.calculateTotalAmount());
+                orderItems += order.getOrderItems().size();
+                sink.order(order);
+            }
+        }
+
+        long cartItems = 0;
+        if (spec.getProducts() > 0) {
+            for (int userIndex = 0; userIndex < spec.getUsers(); userIndex++) {
+                if (random.nextDouble() >= spec.getCartUserRatio()) {
+                    continue;
+                }
+                User user = userStub(firstUserId + userIndex);
+                for (int productIndex : distinctProducts(random, productPicker, 1 + random.nextInt(spec.getMaxCartLines()))) {
+                    CartItem item = new CartItem();
+                    item.setId(cartItemId++);
+                    item.setUser(user);
+                    item.setProduct(productStub(firstProductId + productIndex));
+                    item.setQuantity(random.nextInt(5) == 0 ? 2 : 1);
+                    item.setCreatedAt(end.minusSeconds(random.nextLong(3 * 86_400L)));
+                    sink.cartItem(item);
+                    cartItems++;
+                }
+            }
+        }
+
+        long[] productIdsByPopularity = new long[productsByPopularity.length];
+        for (int rank = 0; rank < productsByPopularity.length; rank++) {
+            productIdsByPopularity[rank] = firstProductId + productsByPopularity[rank];
+        }
+        return new GeneratedDataset(spec.getUsers(), spec.getProducts(), spec.getOrders(), orderItems, cartItems,
+                firstUserId, productIdsByPopularity, categories, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void writeUsers(DatasetSink sink, SplittableRandom random, long firstId, LocalDateTime start) {
+        if (spec.getUsers() == 0) {
+            return;
+        }
+        // One hash for every user: BCrypt per row would take longer than the rest of the load
+        String passwordHash = new BCryptPasswordEncoder().encode(spec.getPassword());
+        for (int i = 0; i < spec.getUsers(); i++) {
+            User user = new User();
+            user.setId(firstId + i);
+            user.setUsername(spec.username(i));
+            user.setEmail(spec.username(i) + "@example.com");
+            user.setPassword(passwordHash);
+            user.setFullName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            user.setPhoneNumber(String.format("07%08d", random.nextInt(100_000_000)));
+            user.setAddress(address(i));
+            user.setRole(User.Role.USER);
+            user.setActive(true);
+            user.setCreatedAt(start.minusSeconds(random.nextLong(365 * 86_400L)));
+            user.setUpdatedAt(user.getCreatedAt());
+            sink.user(user);
+        }
+    }
+
+    private BigDecimal[] writeProducts(DatasetSink sink, SplittableRandom random, long firstId,
+                                       List<String> categories, String[] productCategories, LocalDateTime start) {
+        BigDecimal[] prices = new BigDecimal[spec.getProducts()];
+        int minStock = Math.max(1, spec.getMaxStock() / 10);
+        for (int i = 0; i < spec.getProducts(); i++) {
+            // Log-normal around 25.00, ending in .99 like most shelf prices
+            long units = Math.max(1, Math.min(4_999, Math.round(Math.exp(Math.log(25) + 0.9 * random.nextGaussian()))));
+            prices[i] = BigDecimal.valueOf(units * 100 + 99, 2);
+
+            Product product = new Product();
+            product.setId(firstId + i);
+            product.setName(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + NOUNS[random.nextInt(NOUNS.length)] + " " + (i + 1));
+            product.setDescription("Synthetic product " + (i + 1) + " for performance testing.");
+            product.setPrice(prices[i]);
+            product.setStockQuantity(minStock + random.nextInt(spec.getMaxStock() - minStock + 1));
+            product.setDiscount(random.nextInt(10) == 0 ? 5 * (1 + random.nextInt(6)) : 0);
+            // Some categories are much bigger than others
+            productCategories[i] = categories.get((int) (Math.pow(random.nextDouble(), 1.5) * categories.size()));
+            product.setCategory(productCategories[i]);
+            product.setImageUrl("https://cdn.example.com/products/" + (i + 1) + ".jpg");
+            product.setActive(true);
+            product.setCreatedAt(start.minusSeconds(random.nextLong(180 * 86_400L)));
+            product.setUpdatedAt(product.getCreatedAt());
+            sink.product(product);
+        }
+        return prices;
+    }
+
+    /** Order creation times, ascending, drawn hour by hour from the seasonal profile. */
+    private long[] orderTimes(SplittableRandom random, LocalDateTime start) {
+        int hours = spec.getHistoryDays() * 24;
+        double[] weights = new double[hours];
+        for (int h = 0; h < hours; h++) {
+            LocalDateTime hour = start.plusHours(h);
+            double growth = 0.6 + 0.4 * h / hours;
+            double weekend = hour.getDayOfWeek() == DayOfWeek.SATURDAY || hour.getDayOfWeek() == DayOfWeek.SUNDAY ? 1.2 : 1.0;
+            weights[h] = growth * weekend * season(hour.getDayOfYear()) * HOURLY[hour.getHour()];
+        }
+        Weighted hourPicker = new Weighted(weights);
+        long startEpoch = start.toEpochSecond(ZoneOffset.UTC);
+        long[] times = new long[spec.getOrders()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = startEpoch + hourPicker.pick(random) * 3_600L + random.nextInt(3_600);
+        }
+        Arrays.sort(times);
+        return times;
+    }
+
+    // Black Friday spike, December run-up and a smaller mid-year sale
+    private static double season(int dayOfYear) {
+        return 1
+                + 1.5 * bump(dayOfYear, 332, 1.5)
+                + 0.8 * bump(dayOfYear, 350, 10)
+                + 0.3 * bump(dayOfYear, 196, 7);
+    }
+
+    private static double bump(int x, int centre, double width) {
+        double d = (x - centre) / width;
+        return Math.exp(-d * d / 2);
+    }
+
+    /** Recent orders are still in flight; older ones are delivered or, a few, cancelled. */
+    private static void setStatus(Order order, SplittableRandom random, double ageDays) {
+        int roll = random.nextInt(100);
+        Order.OrderStatus status;
+        if (ageDays < 1) {
+            status = roll < 70 ? Order.OrderStatus.PENDING : Order.OrderStatus.CONFIRMED;
+        } else if (ageDays < 3) {
+            status = roll < 10 ? Order.OrderStatus.PENDING : roll < 60 ? Order.OrderStatus.CONFIRMED : Order.OrderStatus.SHIPPED;
+        } else if (ageDays < 10) {
+            status = roll < 5 ? Order.OrderStatus.CANCELLED : roll < 60 ? Order.OrderStatus.SHIPPED : Order.OrderStatus.DELIVERED;
+        } else {
+            status = roll < 6 ? Order.OrderStatus.CANCELLED : Order.OrderStatus.DELIVERED;
+        }
+        order.setStatus(status);
+        long hoursSinceCreated = switch (status) {
+            case PENDING -> 0;
+            case CONFIRMED -> 1 + random.nextInt(12);
+            case SHIPPED -> 24 + random.nextInt(48);
+            case DELIVERED -> 72 + random.nextInt(168);
+            case CANCELLED -> 1 + random.nextInt(72);
+        };
+        order.setUpdatedAt(order.getCreatedAt().plusHours(Math.min(hoursSinceCreated, (long) (ageDays * 24))));
+    }
+
+    // 1 line most often, geometric tail up to the maximum
+    private static int orderLines(SplittableRandom random, int max) {
+        int lines = 1;
+        while (lines < max && random.nextInt(100) < 45) {
+            lines++;
+        }
+        return lines;
+    }
+
+    private int[] distinctProducts(SplittableRandom random, Weighted picker, int count) {
+        int wanted = Math.min(count, spec.getProducts());
+        int[] picked = new int[wanted];
+        int n = 0;
+        for (int attempts = 0; n < wanted && attempts < wanted * 20; attempts++) {
+            int candidate = picker.pick(random);
+            boolean duplicate = false;
+            for (int i = 0; i < n && !duplicate; i++) {
+                duplicate = picked[i] == candidate;
+            }
+            if (!duplicate) {
+                picked[n++] = candidate;
+            }
+        }
+        return n == wanted ? picked : Arrays.copyOf(picked, n);
+    }
+
+    /** Product index to pick weight 1/rank^s, ranks assigned by the given order. */
+    private static Weighted zipf(int[] byPopularity) {
+        double[] weights = new double[byPopularity.length];
+        for (int rank = 0; rank < byPopularity.length; rank++) {
+            weights[byPopularity[rank]] = 1 / Math.pow(rank + 1, PRODUCT_ZIPF_EXPONENT);
+        }
+        return new Weighted(weights);
+    }
+
+    private Weighted paretoUsers(SplittableRandom random) {
+        double[] weights = new double[spec.getUsers()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.min(USER_WEIGHT_CAP, Math.pow(1 - random.nextDouble(), -1 / USER_PARETO_ALPHA));
+        }
+        return new Weighted(weights);
+    }
+
+    private static int[] shuffledIndexes(int size, SplittableRandom random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static String address(int userIndex) {
+        return (1 + userIndex % 997) + " " + STREETS[userIndex % STREETS.length] + ", "
+                + CITIES[(userIndex / STREETS.length) % CITIES.length];
+    }
+
+    private static User userStub(long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static Product productStub(long id) {
+        Product product = new Product();
+        product.setId(id);
+        return product;
+    }
+
+    /** Picks index i with probability weights[i] / sum(weights). */
+    private static final class Weighted {
+        private final double[] cumulative;
+
+        Weighted(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+        }
+
+        int pick(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
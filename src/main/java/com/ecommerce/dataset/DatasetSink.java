@@ -0,0 +1,32 @@
+package com.ecommerce.dataset;
+
+import com.ecommerce.model.CartItem;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.Product;
+import com.ecommerce.model.User;
+
+/**
+ * Receives the generated rows in insert order: every user and product
+ * before the orders and cart items that reference them. Entities arrive
+ * with their ids set; references to other rows are id-only stubs, and each
+ * order carries its own items.
+ */
+public interface DatasetSink extends AutoCloseable {
+
+    /** First id to hand out for the given table, so generated rows go after existing ones. */
+    default long firstId(String table) {
+        return 1;
+    }
+
+    void user(User user);
+
+    void product(Product product);
+
+    void order(Order order);
+
+    void cartItem(CartItem cartItem);
+
+    @Override
+    default void close() throws Exception {
+    }
+}
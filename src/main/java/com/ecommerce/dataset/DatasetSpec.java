@@ -0,0 +1,182 @@
+package com.ecommerce.dataset;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Size and shape of a synthetic dataset. The same spec and seed always
+ * produce the same rows; set "end" as well when runs on different days
+ * must match, since order timestamps count back from it.
+ */
+public class DatasetSpec {
+
+    private long seed = 42;
+    private int users = 100_000;
+    private int products = 20_000;
+    private int categories = 40;
+    private int orders = 1_000_000;
+    private int maxOrderLines = 6;
+    private double cartUserRatio = 0.05;
+    private int maxCartLines = 8;
+    private int historyDays = 730;
+    private LocalDateTime end = LocalDate.now().atStartOfDay();
+    private int maxStock = 5_000;
+    private String usernamePrefix = "user";
+    private String password = "password123";
+    private int batchSize = 1_000;
+
+    public DatasetSpec() {}
+
+    /**
+     * Applies "name=value" overrides, e.g. "orders=5000000" or
+     * "end=2025-01-01T00:00"; names are the property names of this class.
+     */
+    public DatasetSpec apply(String... overrides) {
+        for (String override : overrides) {
+            int eq = override.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected name=value: " + override);
+            }
+            String value = override.substring(eq + 1).trim();
+            switch (override.substring(0, eq).trim().toLowerCase(Locale.ROOT)) {
+                case "seed" -> seed = Long.parseLong(value);
+                case "users" -> users = Integer.parseInt(value);
+                case "products" -> products = Integer.parseInt(value);
+                case "categories" -> categories = Integer.parseInt(value);
+                case "orders" -> orders = Integer.parseInt(value);
+                case "maxorderlines" -> maxOrderLines = Integer.parseInt(value);
+                case "cartuserratio" -> cartUserRatio = Double.parseDouble(value);
+                case "maxcartlines" -> maxCartLines = Integer.parseInt(value);
+                case "historydays" -> historyDays = Integer.parseInt(value);
+                case "end" -> end = LocalDateTime.parse(value);
+                case "maxstock" -> maxStock = Integer.parseInt(value);
+                case "usernameprefix" -> usernamePrefix = value;
+                case "password" -> password = value;
+                case "batchsize" -> batchSize = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown dataset setting: " + override);
+            }
+        }
+        return this;
+    }
+
+    public String username(long index) {
+        return usernamePrefix + "-" + index;
+    }
+
+    public String category(int index) {
+        return String.format(Locale.ROOT, "category-%02d", index);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public void setProducts(int products) {
+        this.products = products;
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public void setCategories(int categories) {
+        this.categories = categories;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+
+    public void setOrders(int orders) {
+        this.orders = orders;
+    }
+
+    public int getMaxOrderLines() {
+        return maxOrderLines;
+    }
+
+    public void setMaxOrderLines(int maxOrderLines) {
+        this.maxOrderLines = maxOrderLines;
+    }
+
+    public double getCartUserRatio() {
+        return cartUserRatio;
+    }
+
+    public void setCartUserRatio(double cartUserRatio) {
+        this.cartUserRatio = cartUserRatio;
+    }
+
+    public int getMaxCartLines() {
+        return maxCartLines;
+    }
+
+    public void setMaxCartLines(int maxCartLines) {
+        this.maxCartLines = maxCartLines;
+    }
+
+    public int getHistoryDays() {
+        return historyDays;
+    }
+
+    public void setHistoryDays(int historyDays) {
+        this.historyDays = historyDays;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public void setEnd(LocalDateTime end) {
+        this.end = end;
+    }
+
+    public int getMaxStock() {
+        return maxStock;
+    }
+
+    public void setMaxStock(int maxStock) {
+        this.maxStock = maxStock;
+    }
+
+    public String getUsernamePrefix() {
+        return usernamePrefix;
+    }
+
+    public void setUsernamePrefix(String usernamePrefix) {
+        this.usernamePrefix = usernamePrefix;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.dataset;
+
+import java.util.List;
+
+/**
+ * What a DatasetGenerator run produced: row counts, where the generated ids
+ * start, and the product ids ordered from most to least popular, so load
+ * tests can request the catalog with the same skew the orders have.
+ */
+public class GeneratedDataset {
+    private final long users;
+    private final long products;
+    private final long orders;
+    private final long orderItems;
+    private final long cartItems;
+    private final long firstUserId;
+    private final long[] productIdsByPopularity;
+    private final List<String> categories;
+    private final long elapsedMs;
+
+    public GeneratedDataset(long users, long products, long orders, long orderItems, long cartItems,
+                            long firstUserId, long[] productIdsByPopularity, List<String> categories, long elapsedMs) {
+        this.users = users;
+        this.products = products;
+        this.orders = orders;
+        this.orderItems = orderItems;
+        this.cartItems = cartItems;
+        this.firstUserId = firstUserId;
+        this.productIdsByPopularity = productIdsByPopularity;
+        this.categories = categories;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public long getProducts() {
+        return products;
+    }
+
+    public long getOrders() {
+        return orders;
+    }
+
+    public long getOrderItems() {
+        return orderItems;
+    }
+
+    public long getCartItems() {
+        return cartItems;
+    }
+
+    public long getFirstUserId() {
+        return firstUserId;
+    }
+
+    public long[] getProductIdsByPopularity() {
+        return productIdsByPopularity;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + " products=" + products + " orders=" + orders + " orderItems=" + orderItems
+                + " cartItems=" + cartItems + " elapsedMs=" + elapsedMs;
+    }
+}
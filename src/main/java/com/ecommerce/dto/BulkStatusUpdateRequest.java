@@ -0,0 +1,50 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.Order;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Target status plus either explicit order ids or a filter selecting them.
+ */
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    private Order.OrderStatus status;
+
+    private List<Long> ids;
+    private OrderSearchRequest filter;
+
+    public BulkStatusUpdateRequest() {}
+
+    public BulkStatusUpdateRequest(Order.OrderStatus status, List<Long> ids, OrderSearchRequest filter) {
+        this.status = status;
+        this.ids = ids;
+        this.filter = filter;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public OrderSearchRequest getFilter() {
+        return filter;
+    }
+
+    public void setFilter(OrderSearchRequest filter) {
+        this.filter = filter;
+    }
+}
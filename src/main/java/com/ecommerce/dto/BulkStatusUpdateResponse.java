@@ -0,0 +1,53 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.Order;
+
+import java.util.List;
+
+public class BulkStatusUpdateResponse {
+    private Order.OrderStatus status;
+    private int requested;
+    private int updated;
+    private List<StatusTransitionResult> results;
+
+    public BulkStatusUpdateResponse() {}
+
+    public BulkStatusUpdateResponse(Order.OrderStatus status, int requested, int updated, List<StatusTransitionResult> results) {
+        this.status = status;
+        this.requested = requested;
+        this.updated = updated;
+        this.results = results;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public List<StatusTransitionResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<StatusTransitionResult> results) {
+        this.results = results;
+    }
+}
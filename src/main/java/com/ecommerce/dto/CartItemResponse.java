@@ -0,0 +1,62 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.CartItem;
+
+import java.time.LocalDateTime;
+
+public class CartItemResponse {
+    private Long id;
+    private ProductResponse product;
+    private Integer quantity;
+    private LocalDateTime createdAt;
+
+    public CartItemResponse() {}
+
+    public CartItemResponse(Long id, ProductResponse product, Integer quantity, LocalDateTime createdAt) {
+        this.id = id;
+        this.product = product;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+    }
+
+    public static CartItemResponse from(CartItem item) {
+        return new CartItemResponse(
+                item.getId(),
+                ProductResponse.from(item.getProduct()),
+                item.getQuantity(),
+                item.getCreatedAt()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ecommerce.dto;
+
+public class ConnectionPoolStats {
+    private String poolName;
+    private int active;
+    private int idle;
+    private int total;
+    private int pending;
+    private int maxPoolSize;
+    private int minIdle;
+    private long acquired;
+    private long timeouts;
+    private double acquireMeanMs;
+    private double acquireP50Ms;
+    private double acquireP99Ms;
+    private double acquireMaxMs;
+    private double usageMeanMs;
+    private double usageMaxMs;
+    private double creationMeanMs;
+
+    public ConnectionPoolStats() {}
+
+    public ConnectionPoolStats(String poolName, int active, int idle, int total, int pending, int maxPoolSize, int minIdle,
+                               long acquired, long timeouts, double acquireMeanMs, double acquireP50Ms, double acquireP99Ms,
+                               double acquireMaxMs, double usageMeanMs, double usageMaxMs, double creationMeanMs) {
+        this.poolName = poolName;
+        this.active = active;
+        this.idle = idle;
+        this.total = total;
+        this.pending = pending;
+        this.maxPoolSize = maxPoolSize;
+        this.minIdle = minIdle;
+        this.acquired = acquired;
+        this.timeouts = timeouts;
+        this.acquireMeanMs = acquireMeanMs;
+        this.acquireP50Ms = acquireP50Ms;
+        this.acquireP99Ms = acquireP99Ms;
+        this.acquireMaxMs = acquireMaxMs;
+        this.usageMeanMs = usageMeanMs;
+        this.usageMaxMs = usageMaxMs;
+        this.creationMeanMs = creationMeanMs;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public void setIdle(int idle) {
+        this.idle = idle;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public void setPending(int pending) {
+        this.pending = pending;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public long getAcquired() {
+        return acquired;
+    }
+
+    public void setAcquired(long acquired) {
+        this.acquired = acquired;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(long timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    public double getAcquireMeanMs() {
+        return acquireMeanMs;
+    }
+
+    public void setAcquireMeanMs(double acquireMeanMs) {
+        this.acquireMeanMs = acquireMeanMs;
+    }
+
+    public double getAcquireP50Ms() {
+        return acquireP50Ms;
+    }
+
+    public void setAcquireP50Ms(double acquireP50Ms) {
+        this.acquireP50Ms = acquireP50Ms;
+    }
+
+    public double getAcquireP99Ms() {
+        return acquireP99Ms;
+    }
+
+    public void setAcquireP99Ms(double acquireP99Ms) {
+        this.acquireP99Ms = acquireP99Ms;
+    }
+
+    public double getAcquireMaxMs() {
+        return acquireMaxMs;
+    }
+
+    public void setAcquireMaxMs(double acquireMaxMs) {
+        this.acquireMaxMs = acquireMaxMs;
+    }
+
+    public double getUsageMeanMs() {
+        return usageMeanMs;
+    }
+
+    public void setUsageMeanMs(double usageMeanMs) {
+        this.usageMeanMs = usageMeanMs;
+    }
+
+    public double getUsageMaxMs() {
+        return usageMaxMs;
+    }
+
+    public void setUsageMaxMs(double usageMaxMs) {
+        this.usageMaxMs = usageMaxMs;
+    }
+
+    public double getCreationMeanMs() {
+        return creationMeanMs;
+    }
+
+    public void setCreationMeanMs(double creationMeanMs) {
+        this.creationMeanMs = creationMeanMs;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.Order;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class JournalReplayResponse {
+    private long records;
+    private long lastSequence;
+    private int orders;
+    private long incompleteOrders;
+    private Map<Order.OrderStatus, Long> ordersByStatus;
+    private Map<Order.OrderStatus, BigDecimal> revenueByStatus;
+    private int rollupBuckets;
+    private Map<Long, Long> topProducts;
+    private String coverageGap;
+    private boolean applied;
+
+    public JournalReplayResponse() {}
+
+    public JournalReplayResponse(long records, long lastSequence, int orders, long incompleteOrders,
+                                 Map<Order.OrderStatus, Long> ordersByStatus, Map<Order.OrderStatus, BigDecimal> revenueByStatus,
+                                 int rollupBuckets, Map<Long, Long> topProducts, String coverageGap, boolean applied) {
+        this.records = records;
+        this.lastSequence = lastSequence;
+        this.orders = orders;
+        this.incompleteOrders = incompleteOrders;
+        this.ordersByStatus = ordersByStatus;
+        this.revenueByStatus = revenueByStatus;
+        this.rollupBuckets = rollupBuckets;
+        this.topProducts = topProducts;
+        this.coverageGap = coverageGap;
+        this.applied = applied;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public void setRecords(long records) {
+        this.records = records;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+
+    public void setOrders(int orders) {
+        this.orders = orders;
+    }
+
+    public long getIncompleteOrders() {
+        return incompleteOrders;
+    }
+
+    public void setIncompleteOrders(long incompleteOrders) {
+        this.incompleteOrders = incompleteOrders;
+    }
+
+    public Map<Order.OrderStatus, Long> getOrdersByStatus() {
+        return ordersByStatus;
+    }
+
+    public void setOrdersByStatus(Map<Order.OrderStatus, Long> ordersByStatus) {
+        this.ordersByStatus = ordersByStatus;
+    }
+
+    public Map<Order.OrderStatus, BigDecimal> getRevenueByStatus() {
+        return revenueByStatus;
+    }
+
+    public void setRevenueByStatus(Map<Order.OrderStatus, BigDecimal> revenueByStatus) {
+        this.revenueByStatus = revenueByStatus;
+    }
+
+    public int getRollupBuckets() {
+        return rollupBuckets;
+    }
+
+    public void setRollupBuckets(int rollupBuckets) {
+        this.rollupBuckets = rollupBuckets;
+    }
+
+    public Map<Long, Long> getTopProducts() {
+        return topProducts;
+    }
+
+    public void setTopProducts(Map<Long, Long> topProducts) {
+        this.topProducts = topProducts;
+    }
+
+    public String getCoverageGap() {
+        return coverageGap;
+    }
+
+    public void setCoverageGap(String coverageGap) {
+        this.coverageGap = coverageGap;
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public void setApplied(boolean applied) {
+        this.applied = applied;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.ArchivedOrder;
+import com.ecommerce.model.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in an order listing sorted by (sort key, id).
+ * Clients receive it in the X-Next-Cursor header and pass it back unchanged.
+ * A customer's history runs on into the archive, so its cursor also says
+ * which of the two tables the next page continues in.
+ */
+public class OrderCursor {
+    private static final String ARCHIVED_PREFIX = "archived|";
+
+    private final String key;
+    private final Long id;
+    private final boolean archived;
+
+    public OrderCursor(String key, Long id) {
+        this(key, id, false);
+    }
+
+    public OrderCursor(String key, Long id, boolean archived) {
+        this.key = key;
+        this.id = id;
+        this.archived = archived;
+    }
+
+    public static OrderCursor after(Order order, OrderSearchRequest.SortField sort) {
+        return new OrderCursor(sort.keyOf(order), order.getId());
+    }
+
+    // Archived orders are only ever listed newest first
+    public static OrderCursor after(ArchivedOrder order) {
+        return new OrderCursor(order.getCreatedAt().toString(), order.getId(), true);
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            boolean archived = raw.startsWith(ARCHIVED_PREFIX);
+            if (archived) {
+                raw = raw.substring(ARCHIVED_PREFIX.length());
+            }
+            int separator = raw.lastIndexOf('|');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new OrderCursor(raw.substring(0, separator), Long.valueOf(raw.substring(separator + 1)), archived);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = (archived ? ARCHIVED_PREFIX : "") + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+}
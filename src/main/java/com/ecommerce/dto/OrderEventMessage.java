@@ -0,0 +1,74 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class OrderEventMessage {
+    private Long orderId;
+    private Long userId;
+    private Order.OrderStatus previousStatus;
+    private Order.OrderStatus status;
+    private BigDecimal totalAmount;
+    private LocalDateTime occurredAt;
+
+    public OrderEventMessage() {}
+
+    public OrderEventMessage(Long orderId, Long userId, Order.OrderStatus previousStatus, Order.OrderStatus status, BigDecimal totalAmount, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Order.OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(Order.OrderStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
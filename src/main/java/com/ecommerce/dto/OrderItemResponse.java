@@ -0,0 +1,99 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.ArchivedOrderItem;
+import com.ecommerce.model.OrderItem;
+import com.ecommerce.model.Product;
+
+import java.math.BigDecimal;
+
+public class OrderItemResponse {
+    private Long id;
+    private Long productId;
+    private String productName;
+    private String productImageUrl;
+    private Integer quantity;
+    private BigDecimal price;
+
+    public OrderItemResponse() {}
+
+    public OrderItemResponse(Long id, Long productId, String productName, String productImageUrl, Integer quantity, BigDecimal price) {
+        this.id = id;
+        this.productId = productId;
+        this.productName = productName;
+        this.productImageUrl = productImageUrl;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    public static OrderItemResponse from(OrderItem item) {
+        Product product = item.getProduct();
+        return new OrderItemResponse(
+                item.getId(),
+                product.getId(),
+                product.getName(),
+                product.getImageUrl(),
+                item.getQuantity(),
+                item.getPrice()
+        );
+    }
+
+    public static OrderItemResponse from(ArchivedOrderItem item) {
+        Product product = item.getProduct();
+        return new OrderItemResponse(
+                item.getId(),
+                product.getId(),
+                product.getName(),
+                product.getImageUrl(),
+                item.getQuantity(),
+                item.getPrice()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public String getProductImageUrl() {
+        return productImageUrl;
+    }
+
+    public void setProductImageUrl(String productImageUrl) {
+        this.productImageUrl = productImageUrl;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+}
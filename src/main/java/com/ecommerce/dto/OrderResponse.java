@@ -0,0 +1,147 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.ArchivedOrder;
+import com.ecommerce.model.Order;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderResponse {
+    private Long id;
+    private Order.OrderStatus status;
+    private BigDecimal totalAmount;
+    private String shippingAddress;
+    private String paymentMethod;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<OrderItemResponse> orderItems;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UserSummaryResponse user;
+
+    public OrderResponse() {}
+
+    public OrderResponse(Long id, Order.OrderStatus status, BigDecimal totalAmount, String shippingAddress, String paymentMethod, LocalDateTime createdAt, LocalDateTime updatedAt, List<OrderItemResponse> orderItems) {
+        this.id = id;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.shippingAddress = shippingAddress;
+        this.paymentMethod = paymentMethod;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.orderItems = orderItems;
+    }
+
+    public static OrderResponse from(Order order) {
+        return new OrderResponse(
+                order.getId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getShippingAddress(),
+                order.getPaymentMethod(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                order.getOrderItems().stream().map(OrderItemResponse::from).toList()
+        );
+    }
+
+    public static OrderResponse from(ArchivedOrder order) {
+        return new OrderResponse(
+                order.getId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getShippingAddress(),
+                order.getPaymentMethod(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                order.getOrderItems().stream().map(OrderItemResponse::from).toList()
+        );
+    }
+
+    // Admin listings also show who placed the order
+    public static OrderResponse forAdmin(Order order) {
+        OrderResponse response = from(order);
+        response.setUser(UserSummaryResponse.from(order.getUser()));
+        return response;
+    }
+
+    public static OrderResponse forAdmin(ArchivedOrder order) {
+        OrderResponse response = from(order);
+        response.setUser(UserSummaryResponse.from(order.getUser()));
+        return response;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public String getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public void setShippingAddress(String shippingAddress) {
+        this.shippingAddress = shippingAddress;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public List<OrderItemResponse> getOrderItems() {
+        return orderItems;
+    }
+
+    public void setOrderItems(List<OrderItemResponse> orderItems) {
+        this.orderItems = orderItems;
+    }
+
+    public UserSummaryResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserSummaryResponse user) {
+        this.user = user;
+    }
+}
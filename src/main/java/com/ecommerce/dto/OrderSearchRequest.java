@@ -0,0 +1,154 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.Order;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Query parameters for order listings. Every field is optional; unset
+ * filters are left out of the generated WHERE clause.
+ */
+public class OrderSearchRequest {
+
+    public enum SortField {
+        CREATED_AT("createdAt"),
+        TOTAL_AMOUNT("totalAmount");
+
+        private final String attribute;
+
+        SortField(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public String keyOf(Order order) {
+            return this == TOTAL_AMOUNT
+                    ? order.getTotalAmount().toPlainString()
+                    : order.getCreatedAt().toString();
+        }
+
+        public Comparable<?> parseKey(String key) {
+            try {
+                return this == TOTAL_AMOUNT ? new BigDecimal(key) : LocalDateTime.parse(key);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+
+    public enum Direction {
+        ASC, DESC
+    }
+
+    private Order.OrderStatus status;
+    private Long userId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private SortField sort = SortField.CREATED_AT;
+    private Direction direction = Direction.DESC;
+    private String cursor;
+    private Integer limit = 20;
+
+    public OrderSearchRequest() {}
+
+    public static OrderSearchRequest forUser(Long userId, String cursor, Integer limit) {
+        OrderSearchRequest request = new OrderSearchRequest();
+        request.setUserId(userId);
+        request.setCursor(cursor);
+        request.setLimit(limit);
+        return request;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public SortField getSort() {
+        return sort;
+    }
+
+    public void setSort(SortField sort) {
+        this.sort = sort;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.ArchivedOrder;
+import com.ecommerce.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class OrderSummaryResponse {
+    private Long id;
+    private Order.OrderStatus status;
+    private BigDecimal totalAmount;
+    private String paymentMethod;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public OrderSummaryResponse() {}
+
+    public OrderSummaryResponse(Long id, Order.OrderStatus status, BigDecimal totalAmount, String paymentMethod, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.paymentMethod = paymentMethod;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Reads only columns of the orders row, so the items collection is never touched
+    public static OrderSummaryResponse from(Order order) {
+        return new OrderSummaryResponse(
+                order.getId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getPaymentMethod(),
+                order.getCreatedAt(),
+                order.getUpdatedAt()
+        );
+    }
+
+    public static OrderSummaryResponse from(ArchivedOrder order) {
+        return new OrderSummaryResponse(
+                order.getId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getPaymentMethod(),
+                order.getCreatedAt(),
+                order.getUpdatedAt()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.dto;
+
+import java.time.LocalDateTime;
+
+public class OutboxSinkStatus {
+    private String sink;
+    private Long lastEventId;
+    private Long pending;
+    private Integer failedAttempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+
+    public OutboxSinkStatus() {}
+
+    public OutboxSinkStatus(String sink, Long lastEventId, Long pending, Integer failedAttempts, LocalDateTime nextAttemptAt, String lastError) {
+        this.sink = sink;
+        this.lastEventId = lastEventId;
+        this.pending = pending;
+        this.failedAttempts = failedAttempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+    }
+
+    public String getSink() {
+        return sink;
+    }
+
+    public void setSink(String sink) {
+        this.sink = sink;
+    }
+
+    public Long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(Long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    public Long getPending() {
+        return pending;
+    }
+
+    public void setPending(Long pending) {
+        this.pending = pending;
+    }
+
+    public Integer getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public void setFailedAttempts(Integer failedAttempts) {
+        this.failedAttempts = failedAttempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class SalesBucketResponse {
+    private LocalDateTime bucketStart;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String category;
+
+    private Long unitsSold;
+    private BigDecimal revenue;
+
+    public SalesBucketResponse() {}
+
+    public SalesBucketResponse(LocalDateTime bucketStart, String category, Long unitsSold, BigDecimal revenue) {
+        this.bucketStart = bucketStart;
+        this.category = category;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.dto;
+
+public class SqlEndpointStats {
+    private String endpoint;
+    private long requests;
+    private double avgStatements;
+    private int maxStatements;
+    private double avgSqlTimeMs;
+    private double maxSqlTimeMs;
+    private long suspectedNPlusOne;
+    private String worstRepeatedQuery;
+    private long worstRepeatCount;
+
+    public SqlEndpointStats() {}
+
+    public SqlEndpointStats(String endpoint, long requests, double avgStatements, int maxStatements,
+                            double avgSqlTimeMs, double maxSqlTimeMs, long suspectedNPlusOne,
+                            String worstRepeatedQuery, long worstRepeatCount) {
+        this.endpoint = endpoint;
+        this.requests = requests;
+        this.avgStatements = avgStatements;
+        this.maxStatements = maxStatements;
+        this.avgSqlTimeMs = avgSqlTimeMs;
+        this.maxSqlTimeMs = maxSqlTimeMs;
+        this.suspectedNPlusOne = suspectedNPlusOne;
+        this.worstRepeatedQuery = worstRepeatedQuery;
+        this.worstRepeatCount = worstRepeatCount;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public double getAvgStatements() {
+        return avgStatements;
+    }
+
+    public void setAvgStatements(double avgStatements) {
+        this.avgStatements = avgStatements;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public double getAvgSqlTimeMs() {
+        return avgSqlTimeMs;
+    }
+
+    public void setAvgSqlTimeMs(double avgSqlTimeMs) {
+        this.avgSqlTimeMs = avgSqlTimeMs;
+    }
+
+    public double getMaxSqlTimeMs() {
+        return maxSqlTimeMs;
+    }
+
+    public void setMaxSqlTimeMs(double maxSqlTimeMs) {
+        this.maxSqlTimeMs = maxSqlTimeMs;
+    }
+
+    public long getSuspectedNPlusOne() {
+        return suspectedNPlusOne;
+    }
+
+    public void setSuspectedNPlusOne(long suspectedNPlusOne) {
+        this.suspectedNPlusOne = suspectedNPlusOne;
+    }
+
+    public String getWorstRepeatedQuery() {
+        return worstRepeatedQuery;
+    }
+
+    public void setWorstRepeatedQuery(String worstRepeatedQuery) {
+        this.worstRepeatedQuery = worstRepeatedQuery;
+    }
+
+    public long getWorstRepeatCount() {
+        return worstRepeatCount;
+    }
+
+    public void setWorstRepeatCount(long worstRepeatCount) {
+        this.worstRepeatCount = worstRepeatCount;
+    }
+}
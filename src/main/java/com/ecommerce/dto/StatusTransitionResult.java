@@ -0,0 +1,46 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.Order;
+
+public class StatusTransitionResult {
+
+    public enum Outcome {
+        UPDATED, UNCHANGED, INVALID_TRANSITION, NOT_FOUND
+    }
+
+    private Long orderId;
+    private Order.OrderStatus previousStatus;
+    private Outcome outcome;
+
+    public StatusTransitionResult() {}
+
+    public StatusTransitionResult(Long orderId, Order.OrderStatus previousStatus, Outcome outcome) {
+        this.orderId = orderId;
+        this.previousStatus = previousStatus;
+        this.outcome = outcome;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Order.OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(Order.OrderStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.model.User;
+
+public class UserSummaryResponse {
+    private Long id;
+    private String username;
+    private String email;
+    private String fullName;
+
+    public UserSummaryResponse() {}
+
+    public UserSummaryResponse(Long id, String username, String email, String fullName) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.fullName = fullName;
+    }
+
+    public static UserSummaryResponse from(User user) {
+        return new UserSummaryResponse(user.getId(), user.getUsername(), user.getEmail(), user.getFullName());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+}
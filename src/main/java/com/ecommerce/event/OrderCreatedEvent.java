@@ -0,0 +1,104 @@
+package com.ecommerce.event;
+
+import com.ecommerce.model.Order;
+import com.ecommerce.model.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Published inside the transaction that inserted the order. Carries plain
+ * values only, so after-commit listeners never touch a detached entity.
+ */
+public class OrderCreatedEvent {
+    private final Long orderId;
+    private final Long userId;
+    private final Order.OrderStatus status;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime createdAt;
+    private final List<Line> lines;
+
+    public OrderCreatedEvent(Long orderId, Long userId, Order.OrderStatus status, BigDecimal totalAmount, LocalDateTime createdAt,
+                             List<Line> lines) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.lines = lines;
+    }
+
+    public static OrderCreatedEvent of(Order order) {
+        List<Line> lines = new ArrayList<>(order.getOrderItems().size());
+        for (OrderItem item : order.getOrderItems()) {
+            lines.add(new Line(item.getProduct().getId(), item.getCategory(), item.getQuantity(), item.getPrice()));
+        }
+        return new OrderCreatedEvent(
+                order.getId(),
+                order.getUser().getId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getCreatedAt(),
+                lines
+        );
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    /**
+     * One order item as it was at checkout, including the product's category at that time.
+     */
+    public static class Line {
+        private final Long productId;
+        private final String category;
+        private final Integer quantity;
+        private final BigDecimal price;
+
+        public Line(Long productId, String category, Integer quantity, BigDecimal price) {
+            this.productId = productId;
+            this.category = category;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+    }
+}
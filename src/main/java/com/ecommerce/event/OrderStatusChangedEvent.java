@@ -0,0 +1,59 @@
+package com.ecommerce.event;
+
+import com.ecommerce.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published inside the transaction that changed an order's status.
+ * Only fired for real transitions, never when the status is unchanged.
+ */
+public class OrderStatusChangedEvent {
+    private final Long orderId;
+    private final Long userId;
+    private final Order.OrderStatus previousStatus;
+    private final Order.OrderStatus newStatus;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime changedAt;
+
+    public OrderStatusChangedEvent(Long orderId, Long userId, Order.OrderStatus previousStatus, Order.OrderStatus newStatus,
+                                   BigDecimal totalAmount, LocalDateTime createdAt, LocalDateTime changedAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.changedAt = changedAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Order.OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Order.OrderStatus getNewStatus() {
+        return newStatus;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A product catalog query behind one of the public /api/products reads. */
+@Name("com.ecommerce.CatalogRead")
+@Label("Catalog Read")
+@Category({"Ecommerce", "Catalog"})
+@StackTrace(false)
+public class CatalogReadEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Argument")
+    private String argument;
+
+    @Label("Results")
+    private int results;
+
+    public static CatalogReadEvent start(String operation, String argument) {
+        CatalogReadEvent event = new CatalogReadEvent();
+        event.operation = operation;
+        event.argument = argument;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int results) {
+        this.results = results;
+        commit();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * Order placement from the cart, spanning the controller method and the
+ * commit of its transaction. Begin it inside the transaction and register
+ * completion(); the event is committed once the transaction has finished.
+ */
+@Name("com.ecommerce.Checkout")
+@Label("Checkout")
+@Category({"Ecommerce", "Orders"})
+@Description("Order placement including the transaction commit")
+@StackTrace(false)
+public class CheckoutEvent extends Event {
+
+    @Label("Order Lines")
+    private int lines;
+
+    @Label("Order Id")
+    private long orderId;
+
+    @Label("Outcome")
+    @Description("created, empty_cart, insufficient_stock or rolled_back")
+    private String outcome;
+
+    @Label("Stock Check Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long stockCheckTime;
+
+    @Label("Commit Time")
+    @Description("Flush and database commit of the checkout transaction")
+    @Timespan(Timespan.NANOSECONDS)
+    private long commitTime;
+
+    public void setLines(int lines) {
+        this.lines = lines;
+    }
+
+    public void setOrderId(long orderId) {
+        this.orderId = orderId;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void setStockCheckTime(long stockCheckTime) {
+        this.stockCheckTime = stockCheckTime;
+    }
+
+    /** Times the commit and ends the event when the surrounding transaction completes. */
+    public TransactionSynchronization completion() {
+        return new TransactionSynchronization() {
+            private long commitStarted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStarted = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (commitStarted != 0) {
+                    commitTime = System.nanoTime() - commitStarted;
+                }
+                if (status != STATUS_COMMITTED) {
+                    outcome = "rolled_back";
+                }
+                commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Optional always-on flight recording with the bundled jfr/ecommerce.jfc
+ * settings (JDK profiling basics plus the com.ecommerce events). It keeps
+ * the last jfr.recording.max-age, writes it to jfr.recording.dir on
+ * shutdown, and can be dumped on demand for RecordingSummary. Off unless jfr.recording.enabled is set; recordings
+ * started with -XX:StartFlightRecording pick up the same events.
+ */
+@Component
+public class FlightRecording {
+
+    static final String SETTINGS = "/jfr/ecommerce.jfc";
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${jfr.recording.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jfr.recording.dir:./data/jfr}")
+    private Path directory;
+
+    @Value("${jfr.recording.max-age:PT30M}")
+    private Duration maxAge;
+
+    @Value("${jfr.recording.max-size-mb:250}")
+    private long maxSizeMb;
+
+    private Recording recording;
+
+    @PostConstruct
+    public synchronized void start() throws IOException, ParseException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        recording = new Recording(settings());
+        recording.setName("ecommerce");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        // Written by stop() on a normal shutdown, or by JFR's own hook if the JVM exits first
+        recording.setDestination(newFile());
+        recording.setDumpOnExit(true);
+        recording.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Writes what the recording currently holds to a new file and returns its path. */
+    public synchronized Path dump() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("Flight recording is disabled (jfr.recording.enabled=false)");
+        }
+        Path file = newFile();
+        recording.dump(file);
+        return file;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Path newFile() {
+        return directory.resolve("ecommerce-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+    }
+
+    static Configuration settings() throws IOException, ParseException {
+        try (Reader reader = new InputStreamReader(
+                FlightRecording.class.getResourceAsStream(SETTINGS), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
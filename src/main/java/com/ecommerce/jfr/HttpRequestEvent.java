@@ -0,0 +1,43 @@
+package com.ecommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP request, from the outermost application filter to the response.
+ * The other com.ecommerce events on the same thread inside its time span
+ * belong to it, which is how RecordingSummary groups them per endpoint.
+ */
+@Name("com.ecommerce.HttpRequest")
+@Label("HTTP Request")
+@Category({"Ecommerce", "Web"})
+@Description("An HTTP request handled by the API")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    private String method;
+
+    @Label("Route")
+    @Description("Route template, or the raw URI when no handler matched")
+    private String route;
+
+    @Label("Status")
+    private int status;
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,177 @@
+package com.ecommerce.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Per-endpoint summary of a flight recording. Each com.ecommerce event is
+ * attributed to the HttpRequest event that encloses it on the same thread,
+ * so an endpoint's row shows its latency and where the time went: JWT
+ * parsing, user lookups, catalog queries and checkout stock check/commit.
+ *
+ *   java -cp ecommerce-api.jar -Dloader.main=com.ecommerce.jfr.RecordingSummary \
+ *        org.springframework.boot.loader.launch.PropertiesLauncher recording.jfr
+ */
+public class RecordingSummary {
+
+    private static final String PREFIX = "com.ecommerce.";
+
+    private final Map<String, Endpoint> endpoints = new TreeMap<>();
+    private final Map<String, Long> checkoutOutcomes = new TreeMap<>();
+    private long unattributed;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: RecordingSummary <recording.jfr>");
+            System.exit(2);
+        }
+        RecordingSummary summary = RecordingSummary.read(Path.of(args[0]));
+        summary.print();
+    }
+
+    public static RecordingSummary read(Path recording) throws IOException {
+        List<RecordedEvent> requests = new ArrayList<>();
+        List<RecordedEvent> nested = new ArrayList<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (name.equals(PREFIX + "HttpRequest")) {
+                    requests.add(event);
+                } else if (name.startsWith(PREFIX)) {
+                    nested.add(event);
+                }
+            }
+        }
+        RecordingSummary summary = new RecordingSummary();
+        summary.attribute(requests, nested);
+        return summary;
+    }
+
+    private void attribute(List<RecordedEvent> requests, List<RecordedEvent> nested) {
+        Map<Long, NavigableMap<Instant, RecordedEvent>> byThread = new HashMap<>();
+        for (RecordedEvent request : requests) {
+            byThread.computeIfAbsent(threadId(request), id -> new TreeMap<>()).put(request.getStartTime(), request);
+            endpointOf(request).addRequest(request);
+        }
+        for (RecordedEvent event : nested) {
+            if (event.getEventType().getName().equals(PREFIX + "Checkout")) {
+                checkoutOutcomes.merge(String.valueOf(event.getString("outcome")), 1L, Long::sum);
+            }
+            NavigableMap<Instant, RecordedEvent> threadRequests = byThread.get(threadId(event));
+            Map.Entry<Instant, RecordedEvent> enclosing =
+                    threadRequests == null ? null : threadRequests.floorEntry(event.getStartTime());
+            if (enclosing == null || enclosing.getValue().getEndTime().isBefore(event.getStartTime())) {
+                unattributed++;
+                continue;
+            }
+            endpointOf(enclosing.getValue()).addNested(event);
+        }
+    }
+
+    private Endpoint endpointOf(RecordedEvent request) {
+        String name = request.getString("method") + " " + request.getString("route");
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    private static long threadId(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return thread == null ? -1 : thread.getJavaThreadId();
+    }
+
+    public void print() {
+        System.out.println("endpoint,requests,errors,p50Ms,p95Ms,maxMs,"
+                + "tokenParses,tokenParseMs,userLookups,userLookupMs,catalogReads,catalogMs,"
+                + "checkouts,stockCheckMs,commitMs");
+        endpoints.forEach((name, endpoint) -> System.out.println(name + "," + endpoint.row()));
+        System.out.println("checkoutOutcome,count");
+        checkoutOutcomes.forEach((outcome, count) -> System.out.println(outcome + "," + count));
+        if (unattributed > 0) {
+            System.out.println("eventsOutsideRequests," + unattributed);
+        }
+    }
+
+    private static final class Endpoint {
+        private final List<Duration> latencies = new ArrayList<>();
+        private long errors;
+        private final Totals tokenParse = new Totals();
+        private final Totals userLookup = new Totals();
+        private final Totals catalog = new Totals();
+        private final Totals stockCheck = new Totals();
+        private final Totals commit = new Totals();
+
+        void addRequest(RecordedEvent request) {
+            latencies.add(request.getDuration());
+            if (request.getInt("status") >= 500) {
+                errors++;
+            }
+        }
+
+        void addNested(RecordedEvent event) {
+            switch (event.getEventType().getName().substring(PREFIX.length())) {
+                case "TokenParse" -> tokenParse.add(event.getDuration());
+                case "UserLookup" -> userLookup.add(event.getDuration());
+                case "CatalogRead" -> catalog.add(event.getDuration());
+                case "Checkout" -> {
+                    stockCheck.add(event.getDuration("stockCheckTime"));
+                    commit.add(event.getDuration("commitTime"));
+                }
+                default -> { }
+            }
+        }
+
+        String row() {
+            Collections.sort(latencies);
+            return latencies.size() + "," + errors + ","
+                    + millis(percentile(0.50)) + "," + millis(percentile(0.95)) + "," + millis(percentile(1.0)) + ","
+                    + tokenParse + "," + userLookup + "," + catalog + ","
+                    + stockCheck.count + "," + millis(stockCheck.mean()) + "," + millis(commit.mean());
+        }
+
+        private Duration percentile(double quantile) {
+            if (latencies.isEmpty()) {
+                return Duration.ZERO;
+            }
+            int index = (int) Math.ceil(quantile * latencies.size()) - 1;
+            return latencies.get(Math.max(0, index));
+        }
+    }
+
+    /** Count and mean duration; prints as "count,meanMs". */
+    private static final class Totals {
+        private long count;
+        private Duration total = Duration.ZERO;
+
+        void add(Duration duration) {
+            count++;
+            total = total.plus(duration);
+        }
+
+        Duration mean() {
+            return count == 0 ? Duration.ZERO : total.dividedBy(count);
+        }
+
+        @Override
+        public String toString() {
+            return count + "," + millis(mean());
+        }
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1e6);
+    }
+}
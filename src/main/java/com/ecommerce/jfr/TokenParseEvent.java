@@ -0,0 +1,29 @@
+package com.ecommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One JWT signature check and claims parse. */
+@Name("com.ecommerce.TokenParse")
+@Label("JWT Parse")
+@Category({"Ecommerce", "Security"})
+@StackTrace(false)
+public class TokenParseEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+
+    public static TokenParseEvent start() {
+        TokenParseEvent event = new TokenParseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean valid) {
+        this.valid = valid;
+        commit();
+    }
+}
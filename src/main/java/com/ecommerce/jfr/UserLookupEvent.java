@@ -0,0 +1,33 @@
+package com.ecommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Loading a user's account and authorities for authentication. */
+@Name("com.ecommerce.UserLookup")
+@Label("User Lookup")
+@Category({"Ecommerce", "Security"})
+@StackTrace(false)
+public class UserLookupEvent extends Event {
+
+    @Label("Username")
+    private String username;
+
+    @Label("Found")
+    private boolean found;
+
+    public static UserLookupEvent start(String username) {
+        UserLookupEvent event = new UserLookupEvent();
+        event.username = username;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean found) {
+        this.found = found;
+        commit();
+    }
+}
@@ -0,0 +1,189 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import com.ecommerce.model.Order;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One journal entry: an order being created (with its lines) or an order
+ * changing status. Encoded as a compact fixed-order binary payload; the
+ * segment frame around it carries the sequence number and checksum.
+ */
+public class JournalRecord {
+
+    public enum Type {
+        ORDER_CREATED, STATUS_CHANGED
+    }
+
+    private static final Order.OrderStatus[] STATUSES = Order.OrderStatus.values();
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final Type type;
+    private final Long orderId;
+    private final Long userId;
+    private final Order.OrderStatus previousStatus;
+    private final Order.OrderStatus status;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime orderCreatedAt;
+    private final LocalDateTime occurredAt;
+    private final List<OrderCreatedEvent.Line> lines;
+
+    public JournalRecord(Type type, Long orderId, Long userId, Order.OrderStatus previousStatus, Order.OrderStatus status,
+                         BigDecimal totalAmount, LocalDateTime orderCreatedAt, LocalDateTime occurredAt,
+                         List<OrderCreatedEvent.Line> lines) {
+        this.type = type;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.orderCreatedAt = orderCreatedAt;
+        this.occurredAt = occurredAt;
+        this.lines = lines;
+    }
+
+    public static JournalRecord of(OrderCreatedEvent event) {
+        return new JournalRecord(Type.ORDER_CREATED, event.getOrderId(), event.getUserId(), null, event.getStatus(),
+                event.getTotalAmount(), event.getCreatedAt(), event.getCreatedAt(), event.getLines());
+    }
+
+    public static JournalRecord of(OrderStatusChangedEvent event) {
+        return new JournalRecord(Type.STATUS_CHANGED, event.getOrderId(), event.getUserId(), event.getPreviousStatus(),
+                event.getNewStatus(), event.getTotalAmount(), event.getCreatedAt(), event.getChangedAt(), List.of());
+    }
+
+    public void encode(ByteBuffer out) {
+        out.put((byte) type.ordinal());
+        out.putLong(orderId);
+        out.putLong(userId);
+        putStatus(out, previousStatus);
+        putStatus(out, status);
+        putDecimal(out, totalAmount);
+        putTime(out, orderCreatedAt);
+        putTime(out, occurredAt);
+        out.putInt(lines.size());
+        for (OrderCreatedEvent.Line line : lines) {
+            out.putLong(line.getProductId());
+            putString(out, line.getCategory());
+            out.putInt(line.getQuantity());
+            putDecimal(out, line.getPrice());
+        }
+    }
+
+    /**
+     * Decodes a payload in place; the buffer is read from its position and
+     * is not copied.
+     */
+    public static JournalRecord decode(ByteBuffer in) {
+        Type type = Type.values()[in.get()];
+        long orderId = in.getLong();
+        long userId = in.getLong();
+        Order.OrderStatus previousStatus = getStatus(in);
+        Order.OrderStatus status = getStatus(in);
+        BigDecimal totalAmount = getDecimal(in);
+        LocalDateTime orderCreatedAt = getTime(in);
+        LocalDateTime occurredAt = getTime(in);
+        int lineCount = in.getInt();
+        List<OrderCreatedEvent.Line> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderCreatedEvent.Line(in.getLong(), getString(in), in.getInt(), getDecimal(in)));
+        }
+        return new JournalRecord(type, orderId, userId, previousStatus, status, totalAmount, orderCreatedAt, occurredAt, lines);
+    }
+
+    private static void putStatus(ByteBuffer out, Order.OrderStatus status) {
+        out.put(status == null ? -1 : (byte) status.ordinal());
+    }
+
+    private static Order.OrderStatus getStatus(ByteBuffer in) {
+        byte ordinal = in.get();
+        return ordinal < 0 ? null : STATUSES[ordinal];
+    }
+
+    // Amounts are NUMERIC(10,2) columns, so the unscaled value always fits a long
+    private static void putDecimal(ByteBuffer out, BigDecimal value) {
+        BigDecimal amount = value == null ? BigDecimal.ZERO : value;
+        out.put((byte) amount.scale());
+        out.putLong(amount.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer in) {
+        int scale = in.get();
+        return BigDecimal.valueOf(in.getLong(), scale);
+    }
+
+    private static void putTime(ByteBuffer out, LocalDateTime time) {
+        out.putLong(time == null ? NO_TIME : time.toEpochSecond(ZoneOffset.UTC));
+        out.putInt(time == null ? 0 : time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == NO_TIME ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Order.OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getOrderCreatedAt() {
+        return orderCreatedAt;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public List<OrderCreatedEvent.Line> getLines() {
+        return lines;
+    }
+}
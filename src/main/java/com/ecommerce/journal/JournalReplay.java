@@ -0,0 +1,164 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.SalesRollup;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds journal records into the state derived from orders: counts and
+ * revenue per status, hourly sales rollups per category and units sold per
+ * product. Uses the same rules as the live services, except that an
+ * order's lines keep the category its products had at checkout.
+ *
+ * A status change for an order whose creation is not in the journal still
+ * counts towards the status totals, but without its lines it cannot add
+ * to rollups or product counts; such orders are reported as incomplete.
+ * Sequence numbers skipped between visited records (a lost segment or the
+ * rest of one after a corrupt frame) are counted as missing records.
+ */
+public class JournalReplay implements RecordVisitor {
+
+    private final Map<Long, OrderState> orders = new HashMap<>();
+    private long records;
+    private long firstSequence;
+    private long lastSequence;
+    private long missingRecords;
+
+    @Override
+    public void visit(long sequence, ByteBuffer payload) {
+        JournalRecord record = JournalRecord.decode(payload);
+        OrderState order = orders.get(record.getOrderId());
+        if (order == null) {
+            order = new OrderState(record.getType() == JournalRecord.Type.ORDER_CREATED);
+            orders.put(record.getOrderId(), order);
+        }
+        order.status = record.getStatus();
+        order.totalAmount = record.getTotalAmount();
+        order.createdAt = record.getOrderCreatedAt();
+        if (record.getType() == JournalRecord.Type.ORDER_CREATED) {
+            order.lines = record.getLines();
+        }
+        if (records == 0) {
+            firstSequence = sequence;
+        } else if (sequence != lastSequence + 1) {
+            missingRecords += sequence - lastSequence - 1;
+        }
+        records++;
+        lastSequence = sequence;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getFirstSequence() {
+        return firstSequence;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getMissingRecords() {
+        return missingRecords;
+    }
+
+    public int getOrders() {
+        return orders.size();
+    }
+
+    public long getIncompleteOrders() {
+        return orders.values().stream().filter(order -> !order.complete).count();
+    }
+
+    public Map<Order.OrderStatus, Long> getCountByStatus() {
+        Map<Order.OrderStatus, Long> counts = new EnumMap<>(Order.OrderStatus.class);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (OrderState order : orders.values()) {
+            if (order.status != null) {
+                counts.merge(order.status, 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    public Map<Order.OrderStatus, BigDecimal> getRevenueByStatus() {
+        Map<Order.OrderStatus, BigDecimal> revenue = new EnumMap<>(Order.OrderStatus.class);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            revenue.put(status, BigDecimal.ZERO);
+        }
+        for (OrderState order : orders.values()) {
+            if (order.status != null) {
+                revenue.merge(order.status, order.totalAmount, BigDecimal::add);
+            }
+        }
+        return revenue;
+    }
+
+    /**
+     * Hourly buckets per category over orders that are not cancelled, as
+     * unsaved SalesRollup rows.
+     */
+    public List<SalesRollup> getRollups() {
+        Map<String, SalesRollup> rollups = new LinkedHashMap<>();
+        for (OrderState order : orders.values()) {
+            if (order.status == Order.OrderStatus.CANCELLED || order.createdAt == null) {
+                continue;
+            }
+            LocalDateTime bucketStart = order.createdAt.truncatedTo(ChronoUnit.HOURS);
+            for (OrderCreatedEvent.Line line : order.lines) {
+                String category = SalesRollup.categoryOf(line.getCategory());
+                SalesRollup rollup = rollups.computeIfAbsent(bucketStart + "|" + category,
+                        key -> new SalesRollup(null, bucketStart, category, 0L, BigDecimal.ZERO));
+                rollup.setUnitsSold(rollup.getUnitsSold() + line.getQuantity());
+                rollup.setRevenue(rollup.getRevenue().add(line.getPrice().multiply(BigDecimal.valueOf(line.getQuantity()))));
+            }
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    /**
+     * Units sold per product over orders that are not cancelled, most popular first.
+     */
+    public Map<Long, Long> getUnitsByProduct() {
+        Map<Long, Long> units = new HashMap<>();
+        for (OrderState order : orders.values()) {
+            if (order.status == Order.OrderStatus.CANCELLED) {
+                continue;
+            }
+            for (OrderCreatedEvent.Line line : order.lines) {
+                units.merge(line.getProductId(), (long) line.getQuantity(), Long::sum);
+            }
+        }
+        Map<Long, Long> sorted = new LinkedHashMap<>();
+        units.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static class OrderState {
+        private final boolean complete;
+        private Order.OrderStatus status;
+        private BigDecimal totalAmount = BigDecimal.ZERO;
+        private LocalDateTime createdAt;
+        private List<OrderCreatedEvent.Line> lines = List.of();
+
+        OrderState(boolean complete) {
+            this.complete = complete;
+        }
+    }
+}
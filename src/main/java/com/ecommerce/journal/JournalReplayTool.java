@@ -0,0 +1,54 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.model.Order;
+import com.ecommerce.model.SalesRollup;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Offline replay of a journal directory. Prints the status totals, the
+ * rollup buckets and the most popular products that the journal implies,
+ * without a database or a running application:
+ *
+ *   java -cp ecommerce-api.jar -Dloader.main=com.ecommerce.journal.JournalReplayTool \
+ *        org.springframework.boot.loader.launch.PropertiesLauncher ./data/journal [fromSequence]
+ */
+public class JournalReplayTool {
+
+    private static final int TOP_PRODUCTS = 20;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: JournalReplayTool <journal-dir> [fromSequence]");
+            System.exit(2);
+        }
+        long fromSequence = args.length > 1 ? Long.parseLong(args[1]) : 1;
+
+        JournalReplay replay = new JournalReplay();
+        long started = System.nanoTime();
+        OrderJournal.replay(Path.of(args[0]), fromSequence, replay);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("records=%d firstSequence=%d lastSequence=%d missingRecords=%d orders=%d incompleteOrders=%d elapsedMs=%d%n",
+                replay.getRecords(), replay.getFirstSequence(), replay.getLastSequence(), replay.getMissingRecords(),
+                replay.getOrders(), replay.getIncompleteOrders(), elapsedMs);
+
+        System.out.println("status,orders,revenue");
+        Map<Order.OrderStatus, BigDecimal> revenue = replay.getRevenueByStatus();
+        replay.getCountByStatus().forEach((status, count) ->
+                System.out.println(status + "," + count + "," + revenue.get(status)));
+
+        System.out.println("bucketStart,category,unitsSold,revenue");
+        for (SalesRollup rollup : replay.getRollups()) {
+            System.out.println(rollup.getBucketStart() + "," + rollup.getCategory() + ","
+                    + rollup.getUnitsSold() + "," + rollup.getRevenue());
+        }
+
+        System.out.println("productId,unitsSold");
+        replay.getUnitsByProduct().entrySet().stream()
+                .limit(TOP_PRODUCTS)
+                .forEach(entry -> System.out.println(entry.getKey() + "," + entry.getValue()));
+    }
+}
@@ -0,0 +1,190 @@
+package com.ecommerce.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One fixed-size, memory-mapped journal file.
+ *
+ * Layout: a 24-byte header (magic, version, first sequence, creation time
+ * in epoch milliseconds) followed by frames of
+ * [payload length:int][crc32c:int][sequence:long][payload]. The checksum
+ * covers the sequence and payload. The length is written last, so a zero
+ * length marks the end of the data and a torn or corrupt frame is where
+ * recovery stops.
+ */
+final class JournalSegment {
+
+    static final String SUFFIX = ".journal";
+    static final int HEADER_SIZE = 24;
+    static final int FRAME_HEADER_SIZE = 16;
+
+    private static final int MAGIC = 0x4F4A4E4C;
+    private static final int VERSION = 2;
+
+    private final Path path;
+    private final long baseSequence;
+    private final MappedByteBuffer buffer;
+    private final boolean writable;
+    // Epoch milliseconds
+    private final long createdAt;
+
+    // Readers never look past end, so they only see fully written frames
+    private volatile int end;
+    private long lastSequence;
+
+    private JournalSegment(Path path, long baseSequence, MappedByteBuffer buffer, boolean writable, long createdAt) {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.buffer = buffer;
+        this.writable = writable;
+        this.createdAt = createdAt;
+        this.lastSequence = baseSequence - 1;
+    }
+
+    static Path fileName(Path directory, long baseSequence) {
+        return directory.resolve(String.format("%020d%s", baseSequence, SUFFIX));
+    }
+
+    static JournalSegment create(Path directory, long baseSequence, int size) throws IOException {
+        Path path = fileName(directory, baseSequence);
+        MappedByteBuffer buffer = map(path, size, true);
+        long createdAt = System.currentTimeMillis();
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, baseSequence);
+        buffer.putLong(16, createdAt);
+        JournalSegment segment = new JournalSegment(path, baseSequence, buffer, true, createdAt);
+        segment.end = HEADER_SIZE;
+        return segment;
+    }
+
+    /**
+     * Maps an existing segment and finds the end of its valid frames. When
+     * opened for writing, anything after that point (a torn append) is zeroed.
+     */
+    static JournalSegment open(Path path, boolean writable) throws IOException {
+        long size;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+        }
+        if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+            throw new IOException("Not a journal segment: " + path);
+        }
+        MappedByteBuffer buffer = map(path, (int) size, writable);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a journal segment: " + path);
+        }
+
+        JournalSegment segment = new JournalSegment(path, buffer.getLong(8), buffer, writable, buffer.getLong(16));
+        segment.end = HEADER_SIZE;
+        segment.end = segment.scan(segment.baseSequence, buffer.capacity(), (sequence, payload) -> segment.lastSequence = sequence);
+        if (writable) {
+            for (int i = segment.end; i < buffer.capacity(); i++) {
+                if (buffer.get(i) != 0) {
+                    buffer.put(i, (byte) 0);
+                }
+            }
+        }
+        return segment;
+    }
+
+    private static MappedByteBuffer map(Path path, int size, boolean writable) throws IOException {
+        if (writable) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.order(ByteOrder.BIG_ENDIAN);
+                return buffer;
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Appends one frame. Returns false, leaving the segment untouched, when
+     * the frame does not fit in the remaining space.
+     */
+    boolean append(long sequence, ByteBuffer payload) {
+        int length = payload.remaining();
+        int position = end;
+        if ((long) position + FRAME_HEADER_SIZE + length > buffer.capacity()) {
+            return false;
+        }
+
+        buffer.putLong(position + 8, sequence);
+        buffer.put(position + FRAME_HEADER_SIZE, payload, payload.position(), length);
+        buffer.putInt(position + 4, checksum(buffer, position + 8, length));
+        buffer.putInt(position, length);
+
+        lastSequence = sequence;
+        end = position + FRAME_HEADER_SIZE + length;
+        return true;
+    }
+
+    /**
+     * Visits the frames with a sequence of at least fromSequence and returns
+     * the offset just past the last valid frame.
+     */
+    int scan(long fromSequence, RecordVisitor visitor) {
+        return scan(fromSequence, end, visitor);
+    }
+
+    private int scan(long fromSequence, int limit, RecordVisitor visitor) {
+        ByteBuffer view = buffer.asReadOnlyBuffer();
+        int position = HEADER_SIZE;
+        while (position + FRAME_HEADER_SIZE <= limit) {
+            int length = view.getInt(position);
+            if (length <= 0 || position + FRAME_HEADER_SIZE + length > limit
+                    || view.getInt(position + 4) != checksum(view, position + 8, length)) {
+                break;
+            }
+            long sequence = view.getLong(position + 8);
+            if (sequence >= fromSequence) {
+                visitor.visit(sequence, view.slice(position + FRAME_HEADER_SIZE, length));
+            }
+            position += FRAME_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static int checksum(ByteBuffer source, int offset, int payloadLength) {
+        CRC32C crc = new CRC32C();
+        crc.update(source.slice(offset, 8 + payloadLength));
+        return (int) crc.getValue();
+    }
+
+    void force() {
+        if (writable) {
+            buffer.force();
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    int getSize() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,202 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of committed order creations and status changes,
+ * written to memory-mapped segment files under orders.journal.dir.
+ *
+ * Records get consecutive sequence numbers starting at 1. When a record
+ * does not fit in the active segment a new one is started, named after its
+ * first sequence. Appends land in the page cache immediately and are
+ * forced to disk every orders.journal.force-interval-ms, on segment roll
+ * and on shutdown.
+ *
+ * Reads go straight against the mappings, so replaying or tailing (calling
+ * replay again from the last sequence seen plus one) never copies frames.
+ *
+ * The first segment's header records when the journal was started, which
+ * tells whether it can hold every order or only those placed since.
+ */
+@Component
+public class OrderJournal {
+
+    @Value("${orders.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${orders.journal.dir:./data/journal}")
+    private Path directory;
+
+    @Value("${orders.journal.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+    private JournalSegment active;
+    private long nextSequence = 1;
+    private boolean dirty;
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Path> files = listSegments(directory);
+        for (int i = 0; i < files.size(); i++) {
+            segments.add(JournalSegment.open(files.get(i), i == files.size() - 1));
+        }
+        if (segments.isEmpty()) {
+            segments.add(JournalSegment.create(directory, nextSequence, segmentBytes));
+        }
+        active = segments.get(segments.size() - 1);
+        nextSequence = active.getLastSequence() + 1;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * When the segment holding sequence 1 was created, or null when that
+     * segment is gone.
+     */
+    public Instant getStartedAt() {
+        if (segments.isEmpty()) {
+            return null;
+        }
+        JournalSegment first = segments.get(0);
+        return first.getBaseSequence() == 1 ? Instant.ofEpochMilli(first.getCreatedAt()) : null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        if (enabled) {
+            append(JournalRecord.of(event));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (enabled) {
+            append(JournalRecord.of(event));
+        }
+    }
+
+    /**
+     * Appends a record and returns its sequence number.
+     */
+    public synchronized long append(JournalRecord record) {
+        ByteBuffer payload = encode(record);
+        long sequence = nextSequence;
+        if (!active.append(sequence, payload)) {
+            roll(JournalSegment.HEADER_SIZE + JournalSegment.FRAME_HEADER_SIZE + payload.remaining());
+            active.append(sequence, payload);
+        }
+        nextSequence++;
+        dirty = true;
+        return sequence;
+    }
+
+    private ByteBuffer encode(JournalRecord record) {
+        while (true) {
+            try {
+                scratch.clear();
+                record.encode(scratch);
+                return scratch.flip();
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void roll(int minimumSize) {
+        active.force();
+        try {
+            active = JournalSegment.create(directory, nextSequence, Math.max(segmentBytes, minimumSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start journal segment at sequence " + nextSequence, e);
+        }
+        segments.add(active);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.journal.force-interval-ms:1000}")
+    public synchronized void flush() {
+        if (dirty) {
+            active.force();
+            dirty = false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (active != null) {
+            flush();
+        }
+    }
+
+    /**
+     * Visits every record with a sequence of at least fromSequence, in order,
+     * and returns the last sequence visited (fromSequence - 1 if none).
+     */
+    public long replay(long fromSequence, RecordVisitor visitor) {
+        return replay(segments, fromSequence, visitor);
+    }
+
+    /**
+     * Replays a journal directory without a running application, for
+     * offline tools. Segments are mapped read-only.
+     */
+    public static long replay(Path directory, long fromSequence, RecordVisitor visitor) throws IOException {
+        List<JournalSegment> segments = new ArrayList<>();
+        for (Path file : listSegments(directory)) {
+            segments.add(JournalSegment.open(file, false));
+        }
+        return replay(segments, fromSequence, visitor);
+    }
+
+    private static long replay(List<JournalSegment> segments, long fromSequence, RecordVisitor visitor) {
+        long[] last = {fromSequence - 1};
+        for (int i = 0; i < segments.size(); i++) {
+            // Skip whole segments that end before the requested sequence
+            if (i + 1 < segments.size() && segments.get(i + 1).getBaseSequence() <= fromSequence) {
+                continue;
+            }
+            segments.get(i).scan(fromSequence, (sequence, payload) -> {
+                visitor.visit(sequence, payload);
+                last[0] = sequence;
+            });
+        }
+        return last[0];
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
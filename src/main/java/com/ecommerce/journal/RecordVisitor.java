@@ -0,0 +1,14 @@
+package com.ecommerce.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives journal records in sequence order. The payload is a read-only
+ * view straight into the mapped segment: it is only valid during the call
+ * and must not be kept.
+ */
+@FunctionalInterface
+public interface RecordVisitor {
+
+    void visit(long sequence, ByteBuffer payload);
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Money arithmetic on whole numbers of minor units (cents) held in plain
+ * longs. Arithmetic is exact and throws ArithmeticException on overflow
+ * instead of wrapping. Adding and multiplying cents creates no objects, but
+ * converting a BigDecimal price with toMinorUnits still creates a couple of
+ * short-lived BigDecimals per call, so summing order lines that hold
+ * BigDecimal prices is not allocation-free.
+ *
+ * Rounding happens in one place only, HALF_UP (halves away from zero):
+ * converting a BigDecimal with more decimals than the currency has.
+ *
+ * Prices and totals are still stored as NUMERIC columns through the
+ * BigDecimal fields on Product, OrderItem and Order; these methods are what
+ * they are computed with.
+ */
+public final class Money {
+
+    /** The shop's currency; prices carry no currency of their own. */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    private Money() {
+    }
+
+    /** Minor units of amount, rounded HALF_UP to the currency's decimals; null counts as zero. */
+    public static long toMinorUnits(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            return 0;
+        }
+        int digits = fractionDigits(currency);
+        // setScale hands back the same instance when the column scale already matches
+        return amount.setScale(digits, RoundingMode.HALF_UP).scaleByPowerOfTen(digits).longValueExact();
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return toMinorUnits(amount, DEFAULT_CURRENCY);
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits, Currency currency) {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return toBigDecimal(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    /** Unit price times quantity, failing on overflow. */
+    public static long lineTotal(long unitMinorUnits, int quantity) {
+        return Math.multiplyExact(unitMinorUnits, (long) quantity);
+    }
+
+    private static int fractionDigits(Currency currency) {
+        int digits = currency.getDefaultFractionDigits();
+        // Pseudo-currencies such as XAU report -1
+        return digits < 0 ? 0 : digits;
+    }
+}
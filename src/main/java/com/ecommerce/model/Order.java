@@ -10,7 +10,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at DESC, id DESC"),
+        @Index(name = "idx_orders_created", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_orders_total_amount", columnList = "total_amount, id")
+})
 public class Order {
 
     @Id
@@ -41,7 +46,20 @@ public class Order {
     private LocalDateTime updatedAt;
 
     public enum OrderStatus {
-        PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED
+        PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED;
+
+        /**
+         * Orders only move forward through PENDING, CONFIRMED, SHIPPED and
+         * DELIVERED, and can be cancelled until they ship. DELIVERED and
+         * CANCELLED are final.
+         */
+        public boolean canTransitionTo(OrderStatus target) {
+            return switch (this) {
+                case PENDING, CONFIRMED -> target.ordinal() > ordinal();
+                case SHIPPED -> target == DELIVERED;
+                case DELIVERED, CANCELLED -> false;
+            };
+        }
     }
 
     public Order() {}
@@ -90,6 +108,18 @@ public class Order {
         this.totalAmount = totalAmount;
     }
 
+    /**
+     * Sum of price times quantity over the order's items, computed in exact
+     * cents (see Money). createOrder stores this as the total amount.
+     */
+    public BigDecimal calculateTotalAmount() {
+        long totalCents = 0;
+        for (OrderItem item : orderItems) {
+            totalCents = Math.addExact(totalCents, Money.lineTotal(Money.toMinorUnits(item.getPrice()), item.getQuantity()));
+        }
+        return Money.toBigDecimal(totalCents);
+    }
+
     public OrderStatus getStatus() {
         return status;
     }
@@ -26,6 +26,9 @@ public class OrderItem {
     @Column(nullable = false)
     private BigDecimal price;
 
+    // The product's category at checkout, which sales rollups are keyed on; null on rows from before it was kept
+    private String category;
+
     public OrderItem() {}
 
     public OrderItem(Long id, Order order, Product product, Integer quantity, BigDecimal price) {
@@ -75,4 +78,12 @@ public class OrderItem {
     public void setPrice(BigDecimal price) {
         this.price = price;
     }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
 }
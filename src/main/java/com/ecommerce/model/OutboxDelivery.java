@@ -0,0 +1,49 @@
+package com.ecommerce.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks one outbox event as handed to one sink. The dispatcher reads each
+ * sink's undelivered events through these rows rather than an id offset, so
+ * an event whose transaction commits after higher ids were delivered is
+ * still picked up.
+ */
+@Entity
+@Table(name = "outbox_deliveries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_deliveries_event_sink", columnNames = {"event_id", "sink_name"})
+})
+public class OutboxDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 100)
+    private String sinkName;
+
+    @Column(nullable = false)
+    private LocalDateTime deliveredAt;
+
+    public OutboxDelivery() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getSinkName() {
+        return sinkName;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+}
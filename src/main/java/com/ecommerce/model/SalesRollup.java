@@ -0,0 +1,90 @@
+package com.ecommerce.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Units sold and revenue for one product category within one hour,
+ * bucketed by the order's creation time. Cancelled orders are excluded.
+ */
+@Entity
+@Table(name = "sales_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_rollups_bucket_category", columnNames = {"bucket_start", "category"})
+})
+public class SalesRollup {
+
+    public static final String UNCATEGORIZED = "Uncategorized";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private Long unitsSold = 0L;
+
+    @Column(nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    public SalesRollup() {}
+
+    public SalesRollup(Long id, LocalDateTime bucketStart, String category, Long unitsSold, BigDecimal revenue) {
+        this.id = id;
+        this.bucketStart = bucketStart;
+        this.category = category;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    /** The bucket category for a product category, which may be unset. */
+    public static String categoryOf(String productCategory) {
+        return productCategory == null ? UNCATEGORIZED : productCategory;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
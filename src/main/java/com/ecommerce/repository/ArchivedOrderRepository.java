@@ -0,0 +1,65 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.model.ArchivedOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    @EntityGraph(attributePaths = {"user", "orderItems", "orderItems.product"})
+    Optional<ArchivedOrder> findWithItemsById(Long id);
+
+    // A customer's history continues here, newest first, once their live orders run out
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.user.id = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<ArchivedOrder> findHistory(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.user.id = :userId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<ArchivedOrder> findHistoryAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
+    List<ArchivedOrder> findWithItemsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT MIN(o.createdAt) FROM ArchivedOrder o")
+    LocalDateTime findEarliestCreatedAt();
+
+    // The archival job moves rows with the native statements below, one chunk per transaction
+
+    @Query(value = "SELECT id FROM orders WHERE status IN ('DELIVERED', 'CANCELLED') AND updated_at < :cutoff " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (id, user_id, total_amount, status, shipping_address, payment_method, " +
+                   "created_at, updated_at, archived_at) " +
+                   "SELECT id, user_id, total_amount, status, shipping_address, payment_method, created_at, updated_at, :archivedAt " +
+                   "FROM orders WHERE id IN :ids", nativeQuery = true)
+    int copyOrders(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive (id, order_id, product_id, quantity, price, category) " +
+                   "SELECT id, order_id, product_id, quantity, price, category FROM order_items WHERE order_id IN :ids",
+           nativeQuery = true)
+    int copyOrderItems(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM order_items WHERE order_id IN :ids", nativeQuery = true)
+    int deleteHotOrderItems(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders WHERE id IN :ids", nativeQuery = true)
+    int deleteHotOrders(@Param("ids") Collection<Long> ids);
+}
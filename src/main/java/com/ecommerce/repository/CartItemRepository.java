@@ -2,6 +2,7 @@ package com.ecommerce.repository;
 
 import com.ecommerce.model.CartItem;
 import com.ecommerce.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +12,10 @@ import java.util.Optional;
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     List<CartItem> findByUser(User user);
+
+    @EntityGraph(attributePaths = "product")
+    List<CartItem> findWithProductByUser(User user);
+
     Optional<CartItem> findByUserAndProductId(User user, Long productId);
     void deleteByUser(User user);
 }
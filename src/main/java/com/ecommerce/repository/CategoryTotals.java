@@ -0,0 +1,9 @@
+package com.ecommerce.repository;
+
+import java.math.BigDecimal;
+
+public interface CategoryTotals {
+    String getCategory();
+    Long getUnitsSold();
+    BigDecimal getRevenue();
+}
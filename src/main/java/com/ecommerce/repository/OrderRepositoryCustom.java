@@ -0,0 +1,24 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.dto.OrderCursor;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.model.Order;
+
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} orders matching the request's filters,
+     * strictly after {@code after} in the request's sort order (or from the
+     * start when {@code after} is null). The user is fetched with each order;
+     * items are not.
+     */
+    List<Order> search(OrderSearchRequest request, OrderCursor after, int limit);
+
+    /**
+     * Returns the ids of at most {@code limit} orders matching the request's
+     * filters, in id order. Sort and cursor are ignored.
+     */
+    List<Long> searchIds(OrderSearchRequest request, int limit);
+}
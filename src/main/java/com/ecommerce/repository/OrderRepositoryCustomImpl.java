@@ -0,0 +1,102 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.dto.OrderCursor;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Order> search(OrderSearchRequest request, OrderCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Order> query = cb.createQuery(Order.class);
+        Root<Order> order = query.from(Order.class);
+        order.fetch("user");
+
+        List<Predicate> predicates = filters(cb, order, request);
+
+        boolean descending = request.getDirection() == OrderSearchRequest.Direction.DESC;
+        Path<Long> id = order.get("id");
+        if (after != null) {
+            Comparable<?> value = request.getSort().parseKey(after.getKey());
+            if (request.getSort() == OrderSearchRequest.SortField.TOTAL_AMOUNT) {
+                predicates.add(seek(cb, order.get("totalAmount"), (BigDecimal) value, id, after.getId(), descending));
+            } else {
+                predicates.add(seek(cb, order.get("createdAt"), (LocalDateTime) value, id, after.getId(), descending));
+            }
+        }
+
+        Path<?> key = order.get(request.getSort().getAttribute());
+        query.select(order)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(descending
+                        ? List.of(cb.desc(key), cb.desc(id))
+                        : List.of(cb.asc(key), cb.asc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> searchIds(OrderSearchRequest request, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Order> order = query.from(Order.class);
+
+        query.select(order.get("id"))
+                .where(filters(cb, order, request).toArray(new Predicate[0]))
+                .orderBy(cb.asc(order.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<Order> order, OrderSearchRequest request) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (request.getStatus() != null) {
+            predicates.add(cb.equal(order.get("status"), request.getStatus()));
+        }
+        if (request.getUserId() != null) {
+            predicates.add(cb.equal(order.get("user").get("id"), request.getUserId()));
+        }
+        if (request.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.get("createdAt"), request.getFrom()));
+        }
+        if (request.getTo() != null) {
+            predicates.add(cb.lessThan(order.get("createdAt"), request.getTo()));
+        }
+        if (request.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.get("totalAmount"), request.getMinAmount()));
+        }
+        if (request.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(order.get("totalAmount"), request.getMaxAmount()));
+        }
+        return predicates;
+    }
+
+    // (key, id) strictly past the cursor, written out so indexes on (key, id) can be range-scanned
+    private <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder cb, Path<Y> key, Y value,
+                                                             Path<Long> id, Long lastId, boolean descending) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface OrderStatusRow {
+    Long getId();
+    Order.OrderStatus getStatus();
+    Long getUserId();
+    BigDecimal getTotalAmount();
+    LocalDateTime getCreatedAt();
+}
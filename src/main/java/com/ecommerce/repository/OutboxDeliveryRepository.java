@@ -0,0 +1,26 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.model.OutboxDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface OutboxDeliveryRepository extends JpaRepository<OutboxDelivery, Long> {
+
+    // One statement per batch instead of an entity insert per event
+    @Modifying
+    @Query(value = "INSERT INTO outbox_deliveries (event_id, sink_name, delivered_at) " +
+                   "SELECT id, :sinkName, :deliveredAt FROM order_outbox WHERE id IN :ids", nativeQuery = true)
+    int recordDelivered(@Param("sinkName") String sinkName, @Param("ids") Collection<Long> ids,
+                        @Param("deliveredAt") LocalDateTime deliveredAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxDelivery d WHERE NOT EXISTS (SELECT e.id FROM OutboxEvent e WHERE e.id = d.eventId)")
+    int deleteOrphaned();
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE NOT EXISTS " +
+           "(SELECT d.id FROM OutboxDelivery d WHERE d.eventId = e.id AND d.sinkName = :sinkName) " +
+           "ORDER BY e.id")
+    List<OutboxEvent> findUndelivered(@Param("sinkName") String sinkName, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE NOT EXISTS " +
+           "(SELECT d.id FROM OutboxDelivery d WHERE d.eventId = e.id AND d.sinkName = :sinkName)")
+    long countUndelivered(@Param("sinkName") String sinkName);
+
+    // Events every listed sink has received
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.createdAt < :before AND " +
+           "(SELECT COUNT(d) FROM OutboxDelivery d WHERE d.eventId = e.id AND d.sinkName IN :sinkNames) = :sinkCount")
+    int deleteDelivered(@Param("sinkNames") Collection<String> sinkNames, @Param("sinkCount") long sinkCount,
+                        @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
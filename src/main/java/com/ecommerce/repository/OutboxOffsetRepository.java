@@ -0,0 +1,20 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.model.OutboxOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+
+    // Held for the whole delivery so two instances never ship the same batch to one sink
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxOffset o WHERE o.sinkName = :sinkName")
+    Optional<OutboxOffset> lockBySinkName(@Param("sinkName") String sinkName);
+}
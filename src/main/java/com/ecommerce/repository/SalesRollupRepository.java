@@ -0,0 +1,59 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.model.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long>, SalesRollupRepositoryCustom {
+
+    // Per-category line totals of a single order, used to move its contribution in or out of a bucket.
+    // Keyed on the category captured at checkout; items from before it was kept fall back to the product's.
+    @Query("SELECT COALESCE(i.category, p.category, '" + SalesRollup.UNCATEGORIZED + "') AS category, " +
+           "SUM(i.quantity) AS unitsSold, SUM(i.price * i.quantity) AS revenue " +
+           "FROM OrderItem i JOIN i.product p WHERE i.order.id = :orderId " +
+           "GROUP BY COALESCE(i.category, p.category, '" + SalesRollup.UNCATEGORIZED + "')")
+    List<CategoryTotals> summarizeOrderByCategory(@Param("orderId") Long orderId);
+
+    // A concurrent insert of the same bucket still fails on the unique key; callers retry
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (bucket_start, category, units_sold, revenue) " +
+                   "SELECT CAST(:bucketStart AS TIMESTAMP), CAST(:category AS VARCHAR(255)), 0, 0 " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM sales_rollups WHERE bucket_start = :bucketStart AND category = :category)",
+           nativeQuery = true)
+    int createIfMissing(@Param("bucketStart") LocalDateTime bucketStart, @Param("category") String category);
+
+    // Atomic increment; the row lock it takes is held only until the caller's transaction commits
+    @Modifying
+    @Query(value = "UPDATE sales_rollups SET units_sold = units_sold + :units, revenue = revenue + :revenue " +
+                   "WHERE bucket_start = :bucketStart AND category = :category",
+           nativeQuery = true)
+    int addToBucket(@Param("bucketStart") LocalDateTime bucketStart, @Param("category") String category,
+                    @Param("units") long units, @Param("revenue") BigDecimal revenue);
+
+    @Modifying
+    @Query(value = "DELETE FROM sales_rollups", nativeQuery = true)
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (bucket_start, category, units_sold, revenue) " +
+                   "SELECT date_trunc('hour', o.created_at), COALESCE(oi.category, p.category, '" + SalesRollup.UNCATEGORIZED + "'), " +
+                   "SUM(oi.quantity), SUM(oi.price * oi.quantity) " +
+                   "FROM (SELECT id, status, created_at FROM orders " +
+                   "      UNION ALL SELECT id, status, created_at FROM orders_archive) o " +
+                   "JOIN (SELECT order_id, product_id, quantity, price, category FROM order_items " +
+                   "      UNION ALL SELECT order_id, product_id, quantity, price, category FROM order_items_archive) oi " +
+                   "ON oi.order_id = o.id " +
+                   "JOIN products p ON p.id = oi.product_id " +
+                   "WHERE o.status <> 'CANCELLED' " +
+                   "GROUP BY date_trunc('hour', o.created_at), COALESCE(oi.category, p.category, '" + SalesRollup.UNCATEGORIZED + "')",
+           nativeQuery = true)
+    int backfillFromOrders();
+}
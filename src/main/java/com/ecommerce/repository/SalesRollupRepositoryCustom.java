@@ -0,0 +1,19 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.dto.SalesBucketResponse;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+public interface SalesRollupRepositoryCustom {
+
+    /**
+     * Sums the hourly buckets starting in [from, to) per {@code bucketSize}
+     * (HOURS or DAYS; null for a single total) and, when {@code byCategory}
+     * is set, per category. A non-null {@code category} keeps only that
+     * category's buckets. Rows come in bucket, then category order.
+     */
+    List<SalesBucketResponse> summarize(LocalDateTime from, LocalDateTime to, ChronoUnit bucketSize,
+                                        boolean byCategory, String category);
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.dto.SalesBucketResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SalesRollupRepositoryCustomImpl implements SalesRollupRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SalesBucketResponse> summarize(LocalDateTime from, LocalDateTime to, ChronoUnit bucketSize,
+                                               boolean byCategory, String category) {
+        List<String> keys = new ArrayList<>();
+        if (bucketSize == ChronoUnit.HOURS) {
+            keys.add("r.bucketStart");
+        } else if (bucketSize == ChronoUnit.DAYS) {
+            keys.add("trunc(r.bucketStart, day)");
+        } else if (bucketSize != null) {
+            throw new IllegalArgumentException("Unsupported bucket size: " + bucketSize);
+        }
+        if (byCategory) {
+            keys.add("r.category");
+        }
+
+        StringBuilder hql = new StringBuilder("SELECT ");
+        for (int i = 0; i < keys.size(); i++) {
+            hql.append(keys.get(i)).append(" AS key").append(i).append(", ");
+        }
+        hql.append("SUM(r.unitsSold) AS unitsSold, SUM(r.revenue) AS revenue FROM SalesRollup r ")
+                .append("WHERE r.bucketStart >= :from AND r.bucketStart < :to");
+        if (category != null) {
+            hql.append(" AND r.category = :category");
+        }
+        if (!keys.isEmpty()) {
+            String grouping = String.join(", ", keys);
+            hql.append(" GROUP BY ").append(grouping).append(" ORDER BY ").append(grouping);
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(hql.toString(), Tuple.class)
+                .setParameter("from", from)
+                .setParameter("to", to);
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+
+        List<SalesBucketResponse> buckets = new ArrayList<>();
+        for (Tuple row : query.getResultList()) {
+            Long unitsSold = row.get("unitsSold", Long.class);
+            if (unitsSold == null) {
+                // A single total over no buckets at all
+                continue;
+            }
+            int key = 0;
+            LocalDateTime bucketStart = bucketSize != null ? row.get("key" + key++, LocalDateTime.class) : null;
+            String bucketCategory = byCategory ? row.get("key" + key, String.class) : null;
+            buckets.add(new SalesBucketResponse(bucketStart, bucketCategory, unitsSold, row.get("revenue", BigDecimal.class)));
+        }
+        return buckets;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.security;
 
+import com.ecommerce.jfr.UserLookupEvent;
 import com.ecommerce.model.User;
 import com.ecommerce.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,8 +24,12 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        UserLookupEvent event = UserLookupEvent.start(username);
+        User user = userRepository.findByUsername(username).orElse(null);
+        event.finish(user != null);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
 
         List<GrantedAuthority> authorities = Collections.singletonList(
                 new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
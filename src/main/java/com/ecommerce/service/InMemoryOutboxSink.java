@@ -0,0 +1,44 @@
+package com.ecommerce.service;
+
+import com.ecommerce.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recently delivered events in memory. Meant for local runs
+ * and tests; enabled with outbox.sinks.memory.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sinks.memory.enabled", havingValue = "true")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    @Value("${outbox.sinks.memory.capacity:1000}")
+    private int capacity;
+
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    public synchronized List<OutboxEvent> recentEvents() {
+        return new ArrayList<>(events);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.JournalReplayResponse;
+import com.ecommerce.journal.JournalReplay;
+import com.ecommerce.journal.OrderJournal;
+import com.ecommerce.model.SalesRollup;
+import com.ecommerce.repository.ArchivedOrderRepository;
+import com.ecommerce.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds derived order state from the journal instead of the orders
+ * table. Events committed while the replay runs are not in its result, so
+ * applying it is meant for recovery with order traffic paused.
+ *
+ * Applying replaces the stats and every rollup bucket, so it is refused
+ * unless the journal accounts for every order in the database: it must
+ * start at sequence 1, have been started before the oldest order (hot or
+ * archived) was placed, skip no sequence numbers and hold as many orders
+ * as the database. A dry run reports why a journal falls short.
+ */
+@Service
+public class JournalReplayService {
+
+    private static final int TOP_PRODUCTS = 20;
+
+    @Autowired
+    private OrderJournal orderJournal;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    public JournalReplayResponse replay(boolean apply) {
+        if (!orderJournal.isEnabled()) {
+            throw new IllegalStateException("Order journal is disabled");
+        }
+        JournalReplay replay = new JournalReplay();
+        orderJournal.replay(1, replay);
+
+        String coverageGap = findCoverageGap(replay);
+        List<SalesRollup> rollups = replay.getRollups();
+        if (apply) {
+            if (coverageGap != null) {
+                throw new IllegalStateException("Journal does not cover every order, not applied: " + coverageGap);
+            }
+            orderStatsService.load(replay.getCountByStatus(), replay.getRevenueByStatus());
+            salesRollupService.replaceAll(rollups);
+        }
+
+        Map<Long, Long> topProducts = new LinkedHashMap<>();
+        replay.getUnitsByProduct().entrySet().stream()
+                .limit(TOP_PRODUCTS)
+                .forEach(entry -> topProducts.put(entry.getKey(), entry.getValue()));
+
+        return new JournalReplayResponse(replay.getRecords(), replay.getLastSequence(), replay.getOrders(),
+                replay.getIncompleteOrders(), replay.getCountByStatus(), replay.getRevenueByStatus(),
+                rollups.size(), topProducts, coverageGap, apply);
+    }
+
+    /** Why the replay cannot stand in for the orders table, or null if it can. */
+    private String findCoverageGap(JournalReplay replay) {
+        Instant startedAt = orderJournal.getStartedAt();
+        if (startedAt == null) {
+            return "the segment starting at sequence 1 is missing";
+        }
+        if (replay.getRecords() > 0 && replay.getFirstSequence() != 1) {
+            return "the first readable record is sequence " + replay.getFirstSequence();
+        }
+        if (replay.getMissingRecords() > 0) {
+            return replay.getMissingRecords() + " records up to sequence " + replay.getLastSequence() + " are missing or corrupt";
+        }
+        if (replay.getIncompleteOrders() > 0) {
+            return replay.getIncompleteOrders() + " orders changed status without a creation record";
+        }
+
+        LocalDateTime journalStart = LocalDateTime.ofInstant(startedAt, ZoneId.systemDefault());
+        for (LocalDateTime earliest : new LocalDateTime[] {
+                orderRepository.findEarliestCreatedAt(), archivedOrderRepository.findEarliestCreatedAt()}) {
+            if (earliest != null && earliest.isBefore(journalStart)) {
+                return "orders from " + earliest + " predate the journal, started at " + journalStart;
+            }
+        }
+        long databaseOrders = orderRepository.count() + archivedOrderRepository.count();
+        if (databaseOrders != replay.getOrders()) {
+            return "the journal holds " + replay.getOrders() + " orders, the database " + databaseOrders;
+        }
+        return null;
+    }
+}
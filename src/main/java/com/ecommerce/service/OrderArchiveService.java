@@ -0,0 +1,88 @@
+package com.ecommerce.service;
+
+import com.ecommerce.repository.ArchivedOrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves DELIVERED and CANCELLED orders that have not changed for
+ * orders.archive.after-days into orders_archive / order_items_archive.
+ * Each chunk is copied and deleted in its own short transaction so the hot
+ * tables are never locked for long. Both statuses are final, so archived
+ * orders can no longer change.
+ */
+@Service
+public class OrderArchiveService {
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Value("${orders.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${orders.archive.after-days:180}")
+    private int afterDays;
+
+    @Value("${orders.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${orders.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Held across every batch transaction of a run; a monitor there would pin a virtual thread to its carrier
+    private final ReentrantLock archiveLock = new ReentrantLock();
+
+    public OrderArchiveService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${orders.archive.initial-delay-ms:300000}",
+               fixedDelayString = "${orders.archive.interval-ms:3600000}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveCompletedOrders();
+        }
+    }
+
+    /**
+     * Archives eligible orders chunk by chunk and returns how many were moved.
+     */
+    public int archiveCompletedOrders() {
+        archiveLock.lock();
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+            int archived = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                archived += moved == null ? 0 : moved;
+                if (moved == null || moved < batchSize) {
+                    break;
+                }
+            }
+            return archived;
+        } finally {
+            archiveLock.unlock();
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = archivedOrderRepository.lockArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedOrderRepository.copyOrders(ids, LocalDateTime.now());
+        archivedOrderRepository.copyOrderItems(ids);
+        archivedOrderRepository.deleteHotOrderItems(ids);
+        return archivedOrderRepository.deleteHotOrders(ids);
+    }
+}
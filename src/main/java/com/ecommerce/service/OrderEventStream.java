@@ -0,0 +1,319 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.OrderEventMessage;
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed order events out to Server-Sent Events subscribers.
+ *
+ * Each connection owns a bounded queue, drained by a writer thread of its
+ * own while it has events pending: a send blocked on a slow client holds
+ * only that client's writer, never publishers or other clients. Writers are
+ * virtual threads when spring.threads.virtual.enabled is on, otherwise
+ * pooled platform threads (up to orders.events.max-writers, idle ones
+ * reclaimed after a minute).
+ *
+ * A client whose queue overflows, or whose send has been blocked for longer
+ * than orders.events.send-timeout-ms, is dropped: it is removed from the
+ * subscribers at once, so nothing later than what it already has queued is
+ * ever sent to it, and its stream is closed once the writer is done. The
+ * last id it received is therefore the last one before a gap, and it
+ * catches up on reconnect by sending Last-Event-ID, which is replayed from
+ * a ring buffer of recent events.
+ */
+@Service
+public class OrderEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventStream.class);
+
+    public static final String EVENT_CREATED = "order-created";
+    public static final String EVENT_STATUS = "order-status";
+    public static final String EVENT_RESET = "reset";
+
+    private static final StreamedEvent HEARTBEAT = new StreamedEvent(0, null, null);
+
+    // Event ids are "<stream>-<sequence>"; a new stream id per boot invalidates ids from before a restart
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<StreamedEvent> history = new ArrayDeque<>();
+    private long sequence;
+
+    private final Executor writers;
+    private final int queueCapacity;
+    private final int historySize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    public OrderEventStream(@Value("${orders.events.max-writers:200}") int maxWriters,
+                            @Value("${orders.events.queue-capacity:256}") int queueCapacity,
+                            @Value("${orders.events.history-size:1000}") int historySize,
+                            @Value("${orders.events.timeout-ms:1800000}") long timeoutMillis,
+                            @Value("${orders.events.send-timeout-ms:10000}") long sendTimeoutMillis,
+                            Environment environment) {
+        this.writers = Threading.VIRTUAL.isActive(environment) ? virtualWriters() : pooledWriters(maxWriters);
+        this.queueCapacity = queueCapacity;
+        this.historySize = historySize;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+    }
+
+    private static Executor virtualWriters() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-events-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private static Executor pooledWriters(int maxWriters) {
+        AtomicInteger threadCount = new AtomicInteger();
+        // Core size = max with core timeout: a new thread per writer up to the limit, all released when idle
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxWriters, maxWriters, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "order-events-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Opens a stream of order events. A null userId subscribes to every
+     * order (admin feed); otherwise only that user's orders are delivered.
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, userId, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Replay and registration happen under the publish lock so no event falls between them
+        synchronized (this) {
+            if (lastEventId != null && !lastEventId.isEmpty()) {
+                replay(subscriber, lastEventId);
+            }
+            // A replay that overflowed sends what fits and closes; the client resumes after it
+            if (!subscriber.disconnect) {
+                subscribers.add(subscriber);
+            }
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        publish(EVENT_CREATED, new OrderEventMessage(event.getOrderId(), event.getUserId(), null,
+                event.getStatus(), event.getTotalAmount(), event.getCreatedAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        publish(EVENT_STATUS, new OrderEventMessage(event.getOrderId(), event.getUserId(), event.getPreviousStatus(),
+                event.getNewStatus(), event.getTotalAmount(), event.getChangedAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // A full queue already has traffic pending, which keeps the connection alive on its own
+            if (subscriber.queue.offer(HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Drops subscribers whose current send has been blocked for longer than
+     * the send timeout. The blocked writer cannot be interrupted; it closes
+     * the stream once the send returns or fails.
+     */
+    @Scheduled(fixedDelayString = "${orders.events.stall-check-ms:1000}")
+    public void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long sendStarted = subscriber.sendStarted;
+            if (sendStarted != 0 && now - sendStarted > sendTimeoutNanos) {
+                subscribers.remove(subscriber);
+                subscriber.disconnect = true;
+                subscriber.queue.clear();
+                log.info("Dropped order event subscriber after a send blocked for {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(now - sendStarted));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        if (writers instanceof ThreadPoolExecutor pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    private void publish(String name, OrderEventMessage message) {
+        List<Subscriber> overflowed = new ArrayList<>();
+        synchronized (this) {
+            StreamedEvent event = new StreamedEvent(++sequence, name, message);
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(message) && !subscriber.queue.offer(event)) {
+                    // Nothing after the missed event may reach it, or its Last-Event-ID would skip the gap
+                    subscribers.remove(subscriber);
+                    subscriber.disconnect = true;
+                    overflowed.add(subscriber);
+                }
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+        for (Subscriber subscriber : overflowed) {
+            schedule(subscriber);
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().sequence;
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence < oldest - 1) {
+            // Unknown stream or a gap we can no longer fill: the client has to refetch
+            subscriber.queue.offer(new StreamedEvent(sequence, EVENT_RESET, null));
+            return;
+        }
+        for (StreamedEvent event : history) {
+            if (event.sequence > lastSequence && subscriber.accepts(event.message) && !subscriber.queue.offer(event)) {
+                subscriber.disconnect = true;
+                return;
+            }
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(streamId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            StreamedEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                SseEmitter.SseEventBuilder builder;
+                if (event == HEARTBEAT) {
+                    builder = SseEmitter.event().comment("heartbeat");
+                } else {
+                    builder = SseEmitter.event()
+                            .id(streamId + "-" + event.sequence)
+                            .name(event.name);
+                    if (event.message != null) {
+                        builder.data(event.message, MediaType.APPLICATION_JSON);
+                    }
+                }
+                subscriber.sendStarted = System.nanoTime();
+                try {
+                    subscriber.emitter.send(builder);
+                } finally {
+                    subscriber.sendStarted = 0;
+                }
+            }
+            if (subscriber.disconnect) {
+                // Removed from subscribers when marked, so what was sent ends right before the gap
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        schedule(subscriber);
+    }
+
+    private static class StreamedEvent {
+        private final long sequence;
+        private final String name;
+        private final OrderEventMessage message;
+
+        StreamedEvent(long sequence, String name, OrderEventMessage message) {
+            this.sequence = sequence;
+            this.name = name;
+            this.message = message;
+        }
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final Queue<StreamedEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Set, together with removal from subscribers, when the queue overflowed or a send stalled
+        private volatile boolean disconnect;
+        // System.nanoTime() when the send in progress started, 0 between sends
+        private volatile long sendStarted;
+
+        Subscriber(SseEmitter emitter, Long userId, int capacity) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        boolean accepts(OrderEventMessage message) {
+            return userId == null || message == null || userId.equals(message.getUserId());
+        }
+    }
+}
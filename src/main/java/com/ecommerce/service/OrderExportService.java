@@ -0,0 +1,228 @@
+package com.ecommerce.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams orders and their items, hot and archived, straight from a
+ * forward-only JDBC cursor.
+ * Only one row (CSV) or one order (NDJSON) is held in memory at a time,
+ * so the export stays flat regardless of table size.
+ */
+@Service
+public class OrderExportService {
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private static final String EXPORT_SQL =
+            "SELECT o.id, o.user_id, u.username, u.email, o.status, o.total_amount, o.payment_method, " +
+            "o.shipping_address, o.created_at, oi.product_id, p.name AS product_name, p.category, " +
+            "oi.quantity, oi.price " +
+            "FROM (SELECT id, user_id, status, total_amount, payment_method, shipping_address, created_at FROM orders " +
+            "      UNION ALL " +
+            "      SELECT id, user_id, status, total_amount, payment_method, shipping_address, created_at FROM orders_archive) o " +
+            "JOIN users u ON u.id = o.user_id " +
+            "LEFT JOIN (SELECT id, order_id, product_id, quantity, price FROM order_items " +
+            "           UNION ALL SELECT id, order_id, product_id, quantity, price FROM order_items_archive) oi " +
+            "ON oi.order_id = o.id " +
+            "LEFT JOIN products p ON p.id = oi.product_id " +
+            "WHERE o.created_at >= ? AND o.created_at < ? " +
+            "ORDER BY o.id, oi.id";
+
+    private static final String[] CSV_HEADER = {
+            "order_id", "user_id", "username", "email", "status", "total_amount", "payment_method",
+            "shipping_address", "created_at", "product_id", "product_name", "category", "quantity", "price"
+    };
+
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public OrderExportService(DataSource dataSource, @Value("${export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Runs in a read-only transaction because PostgreSQL only honours the
+     * fetch size (server-side cursor) when auto-commit is off.
+     */
+    @Transactional(readOnly = true)
+    public void export(Format format, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Object[] range = {
+                Timestamp.valueOf(from != null ? from : MIN_DATE),
+                Timestamp.valueOf(to != null ? to : MAX_DATE)
+        };
+        try {
+            if (format == Format.NDJSON) {
+                exportNdjson(range, out);
+            } else {
+                exportCsv(range, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportCsv(Object[] range, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, CSV_HEADER);
+
+        jdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> {
+            String[] row = new String[CSV_HEADER.length];
+            for (int i = 0; i < row.length; i++) {
+                Object value = rs.getObject(i + 1);
+                row[i] = value instanceof Timestamp ts ? ts.toLocalDateTime().toString()
+                        : value instanceof BigDecimal amount ? amount.toPlainString()
+                        : value == null ? "" : value.toString();
+            }
+            try {
+                writeCsvLine(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, range);
+
+        writer.flush();
+    }
+
+    private void exportNdjson(Object[] range, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        OrderRowWriter rowWriter = new OrderRowWriter(generator);
+
+        jdbcTemplate.query(EXPORT_SQL, rowWriter, range);
+
+        rowWriter.finish();
+        generator.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Rows arrive ordered by order id, so an order is complete as soon as
+     * the id changes; only the current order's items are buffered.
+     */
+    private static class OrderRowWriter implements RowCallbackHandler {
+        private final JsonGenerator generator;
+        private Long currentOrderId;
+        private final List<Object[]> items = new ArrayList<>();
+        private Object[] header;
+
+        OrderRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long orderId = rs.getLong("id");
+            try {
+                if (currentOrderId == null || currentOrderId != orderId) {
+                    finish();
+                    currentOrderId = orderId;
+                    header = new Object[] {
+                            rs.getLong("user_id"), rs.getString("username"), rs.getString("email"),
+                            rs.getString("status"), rs.getBigDecimal("total_amount"), rs.getString("payment_method"),
+                            rs.getString("shipping_address"), rs.getTimestamp("created_at")
+                    };
+                }
+                long productId = rs.getLong("product_id");
+                if (!rs.wasNull()) {
+                    items.add(new Object[] {
+                            productId, rs.getString("product_name"), rs.getString("category"),
+                            rs.getInt("quantity"), rs.getBigDecimal("price")
+                    });
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            if (currentOrderId == null) {
+                return;
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("id", currentOrderId);
+            generator.writeNumberField("userId", (Long) header[0]);
+            generator.writeStringField("username", (String) header[1]);
+            generator.writeStringField("email", (String) header[2]);
+            generator.writeStringField("status", (String) header[3]);
+            generator.writeNumberField("totalAmount", (BigDecimal) header[4]);
+            generator.writeStringField("paymentMethod", (String) header[5]);
+            generator.writeStringField("shippingAddress", (String) header[6]);
+            Timestamp createdAt = (Timestamp) header[7];
+            generator.writeStringField("createdAt", createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            generator.writeArrayFieldStart("items");
+            for (Object[] item : items) {
+                generator.writeStartObject();
+                generator.writeNumberField("productId", (Long) item[0]);
+                generator.writeStringField("productName", (String) item[1]);
+                generator.writeStringField("category", (String) item[2]);
+                generator.writeNumberField("quantity", (Integer) item[3]);
+                generator.writeNumberField("price", (BigDecimal) item[4]);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            items.clear();
+            currentOrderId = null;
+        }
+    }
+}
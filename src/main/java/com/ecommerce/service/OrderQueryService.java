@@ -0,0 +1,142 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CursorPage;
+import com.ecommerce.dto.OrderCursor;
+import com.ecommerce.dto.OrderResponse;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.dto.OrderSummaryResponse;
+import com.ecommerce.model.ArchivedOrder;
+import com.ecommerce.model.Order;
+import com.ecommerce.repository.ArchivedOrderRepository;
+import com.ecommerce.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read side of order listings. Each page costs one keyset query for the
+ * orders and, unless only summaries are wanted, one more for their items.
+ * A customer's own history runs on into the archive once their live orders
+ * run out, which costs the same again for the page where that happens.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    public CursorPage<OrderResponse> findOrders(OrderSearchRequest request) {
+        return findHistoryPage(request, true, OrderResponse::from, OrderResponse::from);
+    }
+
+    public CursorPage<OrderResponse> findOrdersForAdmin(OrderSearchRequest request) {
+        return findPage(request, true, OrderResponse::forAdmin);
+    }
+
+    /**
+     * Looks the order up in the hot table first and falls back to the
+     * archive, so archived orders stay reachable by id.
+     */
+    public Optional<OrderResponse> findOrderForAdmin(Long id) {
+        Optional<Order> order = orderRepository.findWithItemsByIdIn(List.of(id)).stream().findFirst();
+        if (order.isPresent()) {
+            return order.map(OrderResponse::forAdmin);
+        }
+        return archivedOrderRepository.findWithItemsById(id).map(OrderResponse::forAdmin);
+    }
+
+    public Optional<OrderResponse> findOrderForUser(Long id, Long userId) {
+        Optional<Order> order = orderRepository.findWithItemsByIdIn(List.of(id)).stream().findFirst();
+        if (order.isPresent()) {
+            return order.filter(o -> o.getUser().getId().equals(userId)).map(OrderResponse::from);
+        }
+        return archivedOrderRepository.findWithItemsById(id)
+                .filter(o -> o.getUser().getId().equals(userId))
+                .map(OrderResponse::from);
+    }
+
+    public CursorPage<OrderSummaryResponse> findOrderSummaries(OrderSearchRequest request) {
+        return findHistoryPage(request, false, OrderSummaryResponse::from, OrderSummaryResponse::from);
+    }
+
+    /**
+     * The user's orders newest first: live orders, then archived ones. The
+     * page on which the live orders run out is topped up from the archive.
+     */
+    private <T> CursorPage<T> findHistoryPage(OrderSearchRequest request, boolean withItems,
+                                              Function<Order, T> mapper, Function<ArchivedOrder, T> archivedMapper) {
+        int limit = pageSize(request);
+        OrderCursor after = decodeCursor(request);
+        List<T> content = new ArrayList<>();
+        if (after == null || !after.isArchived()) {
+            CursorPage<T> live = findPage(request, withItems, mapper);
+            if (live.getNextCursor() != null) {
+                return live;
+            }
+            content.addAll(live.getItems());
+            after = null;
+        }
+
+        int remaining = limit - content.size();
+        List<ArchivedOrder> archived = after == null
+                ? archivedOrderRepository.findHistory(request.getUserId(), PageRequest.of(0, remaining))
+                : archivedOrderRepository.findHistoryAfter(request.getUserId(), LocalDateTime.parse(after.getKey()),
+                        after.getId(), PageRequest.of(0, remaining));
+        if (withItems && !archived.isEmpty()) {
+            archivedOrderRepository.findWithItemsByIdIn(archived.stream().map(ArchivedOrder::getId).toList());
+        }
+        archived.stream().map(archivedMapper).forEach(content::add);
+
+        String nextCursor = archived.size() == remaining
+                ? OrderCursor.after(archived.get(archived.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(content, nextCursor);
+    }
+
+    private <T> CursorPage<T> findPage(OrderSearchRequest request, boolean withItems, Function<Order, T> mapper) {
+        int limit = pageSize(request);
+        OrderCursor after = decodeCursor(request);
+        if (after != null && after.isArchived()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        List<Order> orders = orderRepository.search(request, after, limit);
+
+        // Initializes items and products for every order of the page at once
+        if (withItems && !orders.isEmpty()) {
+            orderRepository.findWithItemsByIdIn(orders.stream().map(Order::getId).toList());
+        }
+
+        String nextCursor = orders.size() == limit
+                ? OrderCursor.after(orders.get(orders.size() - 1), request.getSort()).encode()
+                : null;
+        return new CursorPage<>(orders.stream().map(mapper).toList(), nextCursor);
+    }
+
+    private static int pageSize(OrderSearchRequest request) {
+        return Math.max(1, Math.min(request.getLimit() == null ? 20 : request.getLimit(), MAX_PAGE_SIZE));
+    }
+
+    private static OrderCursor decodeCursor(OrderSearchRequest request) {
+        if (request.getCursor() == null || request.getCursor().isEmpty()) {
+            return null;
+        }
+        OrderCursor cursor = OrderCursor.decode(request.getCursor());
+        // Reject malformed keys here rather than as a translated persistence exception
+        request.getSort().parseKey(cursor.getKey());
+        return cursor;
+    }
+}
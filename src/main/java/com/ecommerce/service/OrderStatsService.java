@@ -0,0 +1,356 @@
+package com.ecommerce.service;
+
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import com.ecommerce.model.Money;
+import com.ecommerce.model.Order;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Order counts and revenue per status, kept in memory. Seeded once with
+ * GROUP BY aggregates over the hot and archive tables, then moved by order events after their transaction
+ * commits, so rolled-back work never reaches the counters. Revenue is kept
+ * as exact cents (see Money) and turned into BigDecimal only for snapshots,
+ * so moving an order between statuses allocates nothing.
+ *
+ * A reload must not count an order change twice: once in the aggregates
+ * and again when its event arrives. While it runs, events are held back
+ * instead of applied. The aggregates and the order versions
+ * (id, updated_at) of held-back events are read with plain JDBC in one
+ * repeatable-read transaction on the primary; the JPA transaction manager
+ * cannot set an isolation level with delayed connection acquisition. Before the counters are swapped, the reload
+ * waits for transactions that were still in flight when the aggregates
+ * finished to hand over their events. A held-back event is then applied
+ * only if that snapshot does not already contain it: the order was not
+ * there yet, or had not reached the event's updated_at.
+ */
+@Service
+public class OrderStatsService {
+
+    private static final Order.OrderStatus[] STATUSES = Order.OrderStatus.values();
+
+    private static final String TOTALS_SQL =
+            "SELECT status, COUNT(*) AS order_count, COALESCE(SUM(total_amount), 0) AS revenue " +
+            "FROM (SELECT status, total_amount FROM orders " +
+            "      UNION ALL SELECT status, total_amount FROM orders_archive) o " +
+            "GROUP BY status";
+
+    private static final String VERSIONS_SQL =
+            "SELECT id, updated_at FROM orders WHERE id IN (:ids) " +
+            "UNION ALL SELECT id, updated_at FROM orders_archive WHERE id IN (:ids)";
+
+    private static final int VERSION_CHUNK_SIZE = 1000;
+    private static final long IN_FLIGHT_WAIT_MS = 30_000;
+
+    private final long[] counts = new long[STATUSES.length];
+    private final long[] revenueCents = new long[STATUSES.length];
+    private boolean loaded;
+    // Events of transactions that have not yet committed and handed them over (identity set)
+    private final Set<Object> inFlight = ConcurrentHashMap.newKeySet();
+    // Non-null while a reload runs: events held back until it knows which ones its snapshot covers
+    private List<Object> heldBack;
+    // Locks rather than monitors: a reload holds both across JDBC calls, which would pin a virtual thread's carrier
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // Guards the counters, loaded and heldBack
+    private final ReentrantLock countersLock = new ReentrantLock();
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+
+    public OrderStatsService(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        // Read-write, so the routing data source keeps it on the primary
+        this.snapshotTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        snapshot();
+    }
+
+    /**
+     * Discards the in-memory counters and recomputes them from the hot and archived orders.
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            countersLock.lock();
+            try {
+                heldBack = new ArrayList<>();
+            } finally {
+                countersLock.unlock();
+            }
+            try {
+                snapshotTransaction.executeWithoutResult(transaction -> {
+                    long[] newCounts = new long[STATUSES.length];
+                    long[] newRevenueCents = new long[STATUSES.length];
+                    jdbcTemplate.getJdbcTemplate().query(TOTALS_SQL, (RowCallbackHandler) rs -> {
+                        String status = rs.getString("status");
+                        if (status == null) {
+                            return;
+                        }
+                        int slot = Order.OrderStatus.valueOf(status).ordinal();
+                        newCounts[slot] += rs.getLong("order_count");
+                        newRevenueCents[slot] = Math.addExact(newRevenueCents[slot], Money.toMinorUnits(rs.getBigDecimal("revenue")));
+                    });
+                    // Anything that commits from here on is missing from the snapshot
+                    awaitHandOver(new ArrayList<>(inFlight));
+
+                    countersLock.lock();
+                    try {
+                        Map<Long, LocalDateTime> versions = versionsOf(heldBack);
+                        System.arraycopy(newCounts, 0, counts, 0, counts.length);
+                        System.arraycopy(newRevenueCents, 0, revenueCents, 0, revenueCents.length);
+                        for (Object event : heldBack) {
+                            if (!coveredBy(versions, event)) {
+                                apply(event);
+                            }
+                        }
+                        heldBack = null;
+                        loaded = true;
+                    } finally {
+                        countersLock.unlock();
+                    }
+                });
+            } finally {
+                countersLock.lock();
+                try {
+                    if (heldBack != null) {
+                        // Failed part way: the held-back events are lost, so the next snapshot reloads
+                        heldBack = null;
+                        loaded = false;
+                    }
+                } finally {
+                    countersLock.unlock();
+                }
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the in-memory counters with totals computed elsewhere, such as
+     * a journal replay.
+     */
+    public void load(Map<Order.OrderStatus, Long> countByStatus, Map<Order.OrderStatus, BigDecimal> revenueByStatus) {
+        countersLock.lock();
+        try {
+            for (Order.OrderStatus status : STATUSES) {
+                counts[status.ordinal()] = countByStatus.getOrDefault(status, 0L);
+                revenueCents[status.ordinal()] = Money.toMinorUnits(revenueByStatus.get(status));
+            }
+            loaded = true;
+        } finally {
+            countersLock.unlock();
+        }
+    }
+
+    private void awaitHandOver(List<Object> events) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(IN_FLIGHT_WAIT_MS);
+        for (Object event : events) {
+            while (inFlight.contains(event)) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Order transactions still in flight after " + IN_FLIGHT_WAIT_MS + " ms");
+                }
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reloading order stats", e);
+                }
+            }
+        }
+    }
+
+    // updated_at of each held-back event's order as of the snapshot, hot or archived
+    private Map<Long, LocalDateTime> versionsOf(List<Object> events) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Object event : events) {
+            ids.add(event instanceof OrderCreatedEvent created
+                    ? created.getOrderId()
+                    : ((OrderStatusChangedEvent) event).getOrderId());
+        }
+        Map<Long, LocalDateTime> versions = new HashMap<>();
+        List<Long> idList = new ArrayList<>(ids);
+        for (int start = 0; start < idList.size(); start += VERSION_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(start, Math.min(start + VERSION_CHUNK_SIZE, idList.size()));
+            jdbcTemplate.query(VERSIONS_SQL, Map.of("ids", chunk), (RowCallbackHandler) rs -> {
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                versions.put(rs.getLong("id"), updatedAt == null ? null : updatedAt.toLocalDateTime());
+            });
+        }
+        return versions;
+    }
+
+    private static boolean coveredBy(Map<Long, LocalDateTime> versions, Object event) {
+        if (event instanceof OrderCreatedEvent created) {
+            return versions.containsKey(created.getOrderId());
+        }
+        OrderStatusChangedEvent changed = (OrderStatusChangedEvent) event;
+        LocalDateTime version = versions.get(changed.getOrderId());
+        // The column keeps microseconds
+        return version != null && !version.isBefore(changed.getChangedAt().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    public Snapshot snapshot() {
+        countersLock.lock();
+        try {
+            if (loaded) {
+                return currentSnapshot();
+            }
+        } finally {
+            countersLock.unlock();
+        }
+        reload();
+        countersLock.lock();
+        try {
+            return currentSnapshot();
+        } finally {
+            countersLock.unlock();
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Map<Order.OrderStatus, Long> countByStatus = new EnumMap<>(Order.OrderStatus.class);
+        Map<Order.OrderStatus, BigDecimal> revenueByStatus = new EnumMap<>(Order.OrderStatus.class);
+        long totalOrders = 0;
+        long totalRevenueCents = 0;
+        for (Order.OrderStatus status : STATUSES) {
+            countByStatus.put(status, counts[status.ordinal()]);
+            revenueByStatus.put(status, Money.toBigDecimal(revenueCents[status.ordinal()]));
+            totalOrders += counts[status.ordinal()];
+            totalRevenueCents = Math.addExact(totalRevenueCents, revenueCents[status.ordinal()]);
+        }
+        return new Snapshot(totalOrders, Money.toBigDecimal(totalRevenueCents), countByStatus, revenueByStatus);
+    }
+
+    // Published inside the order's transaction: marks it in flight until it commits and hands the event over
+    @EventListener
+    public void trackOrderCreated(OrderCreatedEvent event) {
+        track(event);
+    }
+
+    @EventListener
+    public void trackOrderStatusChanged(OrderStatusChangedEvent event) {
+        track(event);
+    }
+
+    private void track(Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        inFlight.add(event);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // On commit the listeners below hand the event over and clear it
+                if (status != STATUS_COMMITTED) {
+                    inFlight.remove(event);
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        handOver(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        handOver(event);
+    }
+
+    private void handOver(Object event) {
+        countersLock.lock();
+        try {
+            if (heldBack != null) {
+                heldBack.add(event);
+            } else if (loaded) {
+                apply(event);
+            }
+            inFlight.remove(event);
+        } finally {
+            countersLock.unlock();
+        }
+    }
+
+    private void apply(Object event) {
+        if (event instanceof OrderCreatedEvent created) {
+            move(null, created.getStatus(), created.getTotalAmount());
+        } else {
+            OrderStatusChangedEvent changed = (OrderStatusChangedEvent) event;
+            move(changed.getPreviousStatus(), changed.getNewStatus(), changed.getTotalAmount());
+        }
+    }
+
+    private void move(Order.OrderStatus from, Order.OrderStatus to, BigDecimal amount) {
+        long cents = Money.toMinorUnits(amount);
+        if (from != null) {
+            counts[from.ordinal()]--;
+            revenueCents[from.ordinal()] = Math.subtractExact(revenueCents[from.ordinal()], cents);
+        }
+        if (to != null) {
+            counts[to.ordinal()]++;
+            revenueCents[to.ordinal()] = Math.addExact(revenueCents[to.ordinal()], cents);
+        }
+    }
+
+    public static class Snapshot {
+        private final long totalOrders;
+        private final BigDecimal totalRevenue;
+        private final Map<Order.OrderStatus, Long> countByStatus;
+        private final Map<Order.OrderStatus, BigDecimal> revenueByStatus;
+
+        Snapshot(long totalOrders, BigDecimal totalRevenue,
+                 Map<Order.OrderStatus, Long> countByStatus, Map<Order.OrderStatus, BigDecimal> revenueByStatus) {
+            this.totalOrders = totalOrders;
+            this.totalRevenue = totalRevenue;
+            this.countByStatus = countByStatus;
+            this.revenueByStatus = revenueByStatus;
+        }
+
+        public long getTotalOrders() {
+            return totalOrders;
+        }
+
+        public BigDecimal getTotalRevenue() {
+            return totalRevenue;
+        }
+
+        public Map<Order.OrderStatus, Long> getCountByStatus() {
+            return countByStatus;
+        }
+
+        public Map<Order.OrderStatus, BigDecimal> getRevenueByStatus() {
+            return revenueByStatus;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.BulkStatusUpdateResponse;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.dto.StatusTransitionResult;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import com.ecommerce.model.Order;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.OrderStatusRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies validated status transitions, one order or many at a time.
+ *
+ * A batch costs one locking SELECT and one UPDATE per chunk of ids, no
+ * matter how many orders it covers. An OrderStatusChangedEvent is
+ * published once for each order whose status actually changed.
+ */
+@Service
+public class OrderStatusService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${orders.bulk.max-size:5000}")
+    private int maxBulkSize;
+
+    @Transactional
+    public StatusTransitionResult updateStatus(Long orderId, Order.OrderStatus target) {
+        return transition(List.of(orderId), target).getResults().get(0);
+    }
+
+    /**
+     * Transitions the orders matching a filter. A filter matching more than
+     * orders.bulk.max-size orders is rejected as a whole rather than applied
+     * to an arbitrary first part of them.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateStatus(OrderSearchRequest filter, Order.OrderStatus target) {
+        // One id past the cap tells "exactly at the cap" from "over it" without a separate COUNT
+        List<Long> ids = orderRepository.searchIds(filter, maxBulkSize + 1);
+        if (ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("More than " + maxBulkSize + " orders match the filter; narrow it and retry");
+        }
+        return transition(ids, target);
+    }
+
+    @Transactional
+    public BulkStatusUpdateResponse transition(List<Long> orderIds, Order.OrderStatus target) {
+        if (orderIds.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " orders can be updated at once");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        List<StatusTransitionResult> results = new ArrayList<>(ids.size());
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+
+        for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+
+            Map<Long, OrderStatusRow> rows = new HashMap<>();
+            for (OrderStatusRow row : orderRepository.lockStatusRows(chunk)) {
+                rows.put(row.getId(), row);
+            }
+
+            List<Long> eligible = new ArrayList<>();
+            for (Long id : chunk) {
+                OrderStatusRow row = rows.get(id);
+                StatusTransitionResult.Outcome outcome;
+                if (row == null) {
+                    outcome = StatusTransitionResult.Outcome.NOT_FOUND;
+                } else if (row.getStatus() == target) {
+                    outcome = StatusTransitionResult.Outcome.UNCHANGED;
+                } else if (row.getStatus() != null && !row.getStatus().canTransitionTo(target)) {
+                    outcome = StatusTransitionResult.Outcome.INVALID_TRANSITION;
+                } else {
+                    outcome = StatusTransitionResult.Outcome.UPDATED;
+                    eligible.add(id);
+                }
+                results.add(new StatusTransitionResult(id, row == null ? null : row.getStatus(), outcome));
+            }
+
+            if (!eligible.isEmpty()) {
+                updated += orderRepository.updateStatus(eligible, target, now);
+                for (Long id : eligible) {
+                    OrderStatusRow row = rows.get(id);
+                    eventPublisher.publishEvent(new OrderStatusChangedEvent(id, row.getUserId(), row.getStatus(), target,
+                            row.getTotalAmount(), row.getCreatedAt(), now));
+                }
+            }
+        }
+
+        return new BulkStatusUpdateResponse(target, ids.size(), updated, results);
+    }
+}
@@ -0,0 +1,186 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.OutboxSinkStatus;
+import com.ecommerce.model.OutboxEvent;
+import com.ecommerce.model.OutboxOffset;
+import com.ecommerce.repository.OutboxDeliveryRepository;
+import com.ecommerce.repository.OutboxEventRepository;
+import com.ecommerce.repository.OutboxOffsetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Polls the outbox and hands events to every OutboxSink in batches, in id
+ * order, recording each delivered event per sink (OutboxDelivery).
+ *
+ * Ids are assigned at insert but become visible at commit, so a slower
+ * transaction can commit a lower id after higher ones have been delivered.
+ * Because a sink's next batch is whatever it has no delivery row for, rather
+ * than everything above an offset, such an event simply goes out with the
+ * next batch after it commits. The sink's OutboxOffset row is locked for
+ * the whole batch, so two instances never ship the same events to one sink.
+ * A failed batch is retried with exponential backoff without holding up the
+ * other sinks.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    @Autowired
+    private OutboxDeliveryRepository outboxDeliveryRepository;
+
+    @Autowired(required = false)
+    private List<OutboxSink> sinks = new ArrayList<>();
+
+    @Value("${outbox.dispatch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+
+    @Value("${outbox.retry.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${outbox.retry.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${outbox.retention-hours:72}")
+    private long retentionHours;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // One polling round at a time; a lock rather than a monitor so a virtual thread is not pinned across the JDBC calls
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    public OutboxDispatcher(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${outbox.initial-delay-ms:5000}",
+               fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void scheduledDispatch() {
+        if (enabled) {
+            dispatch();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${outbox.purge-interval-ms:600000}",
+               fixedDelayString = "${outbox.purge-interval-ms:600000}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purgeDelivered();
+        }
+    }
+
+    /**
+     * Runs one polling round over every sink and returns how many events
+     * were delivered in total.
+     */
+    public int dispatch() {
+        dispatchLock.lock();
+        try {
+            int delivered = 0;
+            for (OutboxSink sink : sinks) {
+                for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                    Integer count = transactionTemplate.execute(status -> deliverBatch(sink));
+                    delivered += count == null ? 0 : count;
+                    if (count == null || count < batchSize) {
+                        break;
+                    }
+                }
+            }
+            return delivered;
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes events every sink has already received once they are older
+     * than outbox.retention-hours. Returns the number of rows removed.
+     */
+    public int purgeDelivered() {
+        Integer purged = transactionTemplate.execute(status -> {
+            LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+            List<String> sinkNames = sinks.stream().map(OutboxSink::getName).toList();
+            int deleted = sinkNames.isEmpty()
+                    ? outboxEventRepository.deleteCreatedBefore(before)
+                    : outboxEventRepository.deleteDelivered(sinkNames, sinkNames.size(), before);
+            outboxDeliveryRepository.deleteOrphaned();
+            return deleted;
+        });
+        return purged == null ? 0 : purged;
+    }
+
+    public List<OutboxSinkStatus> getStatus() {
+        List<OutboxSinkStatus> statuses = new ArrayList<>();
+        for (OutboxSink sink : sinks) {
+            OutboxOffset offset = outboxOffsetRepository.findById(sink.getName())
+                    .orElseGet(() -> new OutboxOffset(sink.getName()));
+            statuses.add(new OutboxSinkStatus(sink.getName(), offset.getLastEventId(),
+                    outboxEventRepository.countUndelivered(sink.getName()),
+                    offset.getFailedAttempts(), offset.getNextAttemptAt(), offset.getLastError()));
+        }
+        return statuses;
+    }
+
+    private int deliverBatch(OutboxSink sink) {
+        OutboxOffset offset = outboxOffsetRepository.lockBySinkName(sink.getName())
+                .orElseGet(() -> outboxOffsetRepository.save(new OutboxOffset(sink.getName())));
+        LocalDateTime now = LocalDateTime.now();
+        if (offset.getNextAttemptAt() != null && now.isBefore(offset.getNextAttemptAt())) {
+            return 0;
+        }
+
+        List<OutboxEvent> events = outboxEventRepository.findUndelivered(sink.getName(), PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            sink.deliver(events);
+        } catch (Exception e) {
+            int attempts = offset.getFailedAttempts() + 1;
+            long backoffMs = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 20));
+            offset.setFailedAttempts(attempts);
+            offset.setNextAttemptAt(now.plusNanos(backoffMs * 1_000_000));
+            offset.setLastError(truncate(e.toString()));
+            log.warn("Outbox sink {} failed on events {}..{} (attempt {}), retrying in {} ms",
+                    sink.getName(), events.get(0).getId(), events.get(events.size() - 1).getId(), attempts, backoffMs, e);
+            return 0;
+        }
+
+        outboxDeliveryRepository.recordDelivered(sink.getName(), events.stream().map(OutboxEvent::getId).toList(), now);
+        offset.setLastEventId(Math.max(offset.getLastEventId(), events.get(events.size() - 1).getId()));
+        offset.setFailedAttempts(0);
+        offset.setNextAttemptAt(null);
+        offset.setLastError(null);
+        return events.size();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
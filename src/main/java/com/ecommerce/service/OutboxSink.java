@@ -0,0 +1,24 @@
+package com.ecommerce.service;
+
+import com.ecommerce.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * A downstream consumer of order events. Every OutboxSink bean is picked up
+ * by the OutboxDispatcher and fed in id order, except that an event whose
+ * transaction committed late arrives after higher ids.
+ *
+ * Delivery is at-least-once: if deliver throws, the whole batch is retried
+ * later, so implementations should tolerate seeing an event id twice.
+ */
+public interface OutboxSink {
+
+    /**
+     * Stable name the sink's deliveries are recorded under. Renaming a sink makes it
+     * start again from the oldest retained event.
+     */
+    String getName();
+
+    void deliver(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.OrderEventMessage;
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import com.ecommerce.model.OutboxEvent;
+import com.ecommerce.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records order events in the outbox table. These are plain (not
+ * transactional) listeners, so the insert joins the transaction that
+ * created or changed the order: the event exists exactly when the change
+ * committed. Nothing is sent from here; OutboxDispatcher does that later.
+ */
+@Service
+public class OutboxWriter {
+
+    public static final String EVENT_CREATED = "order.created";
+    public static final String EVENT_STATUS_CHANGED = "order.status_changed";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        write(EVENT_CREATED, new OrderEventMessage(event.getOrderId(), event.getUserId(), null,
+                event.getStatus(), event.getTotalAmount(), event.getCreatedAt()));
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        write(EVENT_STATUS_CHANGED, new OrderEventMessage(event.getOrderId(), event.getUserId(), event.getPreviousStatus(),
+                event.getNewStatus(), event.getTotalAmount(), event.getChangedAt()));
+    }
+
+    private void write(String eventType, OrderEventMessage message) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(eventType, message.getOrderId(),
+                    objectMapper.writeValueAsString(message)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " for order " + message.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.ReplicaRoutingDataSource;
+import com.ecommerce.event.OrderCreatedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Keeps the replica routing decision current: probes replica lag on a
+ * fixed delay, and pins the buyer to the primary once a checkout has
+ * committed. Status changes pin nobody: they are made by an admin, not by
+ * the order's owner, and the owner sees them once the replica catches up,
+ * which max-lag-ms bounds.
+ */
+@Service
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaRoutingMonitor {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ReplicaRoutingDataSource router;
+
+    @PostConstruct
+    public void init() throws SQLException {
+        router = dataSource.unwrap(ReplicaRoutingDataSource.class);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-ms:1000}")
+    public void checkReplica() {
+        router.checkReplica();
+    }
+
+    // Checkout runs on the buyer's own request, so the current user is the order's owner
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        router.markWrite();
+    }
+}
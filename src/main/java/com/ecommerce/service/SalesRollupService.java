@@ -0,0 +1,182 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.SalesBucketResponse;
+import com.ecommerce.event.OrderCreatedEvent;
+import com.ecommerce.event.OrderStatusChangedEvent;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.SalesRollup;
+import com.ecommerce.repository.CategoryTotals;
+import com.ecommerce.repository.SalesRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains hourly sales buckets per category and answers analytics
+ * queries from them alone. An order contributes to the bucket of the hour
+ * it was created in; cancelling it takes the contribution back out, and
+ * un-cancelling puts it back. Orders are bucketed by the category their
+ * items had at checkout, so later product edits do not move past sales.
+ */
+@Service
+public class SalesRollupService {
+
+    public enum Granularity {
+        HOUR, DAY, ALL
+    }
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    private static final int MAX_BUCKET_INSERT_ATTEMPTS = 3;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Incremental updates share the read side; a rebuild takes the write side
+    // so it never deletes buckets an in-flight update is about to increment
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    public SalesRollupService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        if (event.getStatus() == Order.OrderStatus.CANCELLED) {
+            return;
+        }
+        Map<String, CategoryDelta> deltas = new HashMap<>();
+        for (OrderCreatedEvent.Line line : event.getLines()) {
+            deltas.computeIfAbsent(SalesRollup.categoryOf(line.getCategory()), category -> new CategoryDelta())
+                    .add(line.getQuantity(), line.getPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+        }
+        apply(event.getCreatedAt(), deltas);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        boolean wasCounted = event.getPreviousStatus() != Order.OrderStatus.CANCELLED;
+        boolean isCounted = event.getNewStatus() != Order.OrderStatus.CANCELLED;
+        if (wasCounted == isCounted) {
+            return;
+        }
+        List<CategoryTotals> totals = transactionTemplate.execute(
+                status -> salesRollupRepository.summarizeOrderByCategory(event.getOrderId()));
+        Map<String, CategoryDelta> deltas = new HashMap<>();
+        for (CategoryTotals categoryTotals : totals) {
+            long units = categoryTotals.getUnitsSold();
+            BigDecimal revenue = categoryTotals.getRevenue();
+            deltas.computeIfAbsent(categoryTotals.getCategory(), category -> new CategoryDelta())
+                    .add(isCounted ? units : -units, isCounted ? revenue : revenue.negate());
+        }
+        apply(event.getCreatedAt(), deltas);
+    }
+
+    /**
+     * Rebuilds every bucket from hot and archived orders and their items.
+     * Returns the number of buckets written.
+     */
+    public int rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            Integer buckets = transactionTemplate.execute(status -> {
+                salesRollupRepository.deleteAllRollups();
+                return salesRollupRepository.backfillFromOrders();
+            });
+            return buckets == null ? 0 : buckets;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every bucket with the given rows, such as those rebuilt by a
+     * journal replay. Returns the number of buckets written.
+     */
+    public int replaceAll(List<SalesRollup> rollups) {
+        rebuildLock.writeLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                salesRollupRepository.deleteAllRollups();
+                salesRollupRepository.saveAll(rollups);
+            });
+            return rollups.size();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the deltas to the order's hour bucket. Concurrent orders only
+     * contend on the row of the bucket they share, for as long as the
+     * increment transaction stays open; a rebuild waits for them and they
+     * wait for it, so none is lost to the delete.
+     */
+    private void apply(LocalDateTime createdAt, Map<String, CategoryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime bucketStart = createdAt.truncatedTo(ChronoUnit.HOURS);
+        rebuildLock.readLock().lock();
+        try {
+            createMissingBuckets(bucketStart, deltas.keySet());
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((category, delta) ->
+                    salesRollupRepository.addToBucket(bucketStart, category, delta.units, delta.revenue)));
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // Another order may insert the same bucket between the existence check and the insert;
+    // its row is there once the unique key rejects ours, so the next attempt finds it
+    private void createMissingBuckets(LocalDateTime bucketStart, Set<String> categories) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (String category : categories) {
+                        salesRollupRepository.createIfMissing(bucketStart, category);
+                    }
+                });
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_BUCKET_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public List<SalesBucketResponse> getSales(LocalDateTime from, LocalDateTime to, Granularity granularity,
+                                              boolean byCategory, String category) {
+        ChronoUnit bucketSize = switch (granularity) {
+            case HOUR -> ChronoUnit.HOURS;
+            case DAY -> ChronoUnit.DAYS;
+            case ALL -> null;
+        };
+        return salesRollupRepository.summarize(from, to, bucketSize, byCategory, category);
+    }
+
+    private static class CategoryDelta {
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        void add(long units, BigDecimal revenue) {
+            this.units += units;
+            this.revenue = this.revenue.add(revenue);
+        }
+    }
+}
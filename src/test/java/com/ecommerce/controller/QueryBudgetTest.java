@@ -0,0 +1,289 @@
+package com.ecommerce.controller;
+
+import com.ecommerce.dataset.DatasetGenerator;
+import com.ecommerce.dataset.DatasetSpec;
+import com.ecommerce.dataset.JdbcDatasetSink;
+import com.ecommerce.model.CartItem;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.OrderItem;
+import com.ecommerce.model.Product;
+import com.ecommerce.model.User;
+import com.ecommerce.repository.CartItemRepository;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.repository.UserRepository;
+import com.ecommerce.security.CustomUserDetailsService;
+import com.ecommerce.security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Query budgets per endpoint: each request runs against a seeded H2
+ * database and may execute at most the given number of JDBC statements
+ * and materialise at most the given number of entities, as counted by
+ * Hibernate statistics. Reintroducing N+1 loading or a findAll() scan
+ * pushes an endpoint over its budget and fails the build.
+ *
+ * Statement budgets are written as AUTH_LOOKUP plus what the endpoint
+ * itself runs. When a change legitimately needs more queries, raise the
+ * budget in the same commit and say why.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudget;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "outbox.dispatch.enabled=false",
+        "logging.level.root=WARN",
+        "logging.level.com.ecommerce=WARN"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    /** The JWT filter loads the user once per authenticated request. */
+    private static final int AUTH_LOOKUP = 1;
+
+    private static final int CATALOG_PRODUCTS = 500;
+    private static final int CART_ITEMS = 30;
+    private static final int ORDERS = 50;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private Statistics statistics;
+    private List<Product> products;
+    private String adminToken;
+    private String shopperToken;
+    private String buyerToken;
+    private User shopper;
+    private User buyer;
+    private Long shopperOrderId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetSpec spec = new DatasetSpec().apply("users=100", "products=" + CATALOG_PRODUCTS, "categories=10",
+                "orders=1000", "maxStock=100000", "usernamePrefix=budget");
+        try (JdbcDatasetSink sink = new JdbcDatasetSink(dataSource, spec.getBatchSize())) {
+            new DatasetGenerator(spec).generate(sink);
+        }
+        products = productRepository.findAll();
+
+        // The shopper has a full cart and a long order history; the buyer's cart is changed by the write tests
+        shopper = userRepository.findByUsername(spec.username(0)).orElseThrow();
+        cartItemRepository.deleteAll(cartItemRepository.findByUser(shopper));
+        for (int i = 0; i < CART_ITEMS; i++) {
+            cartItemRepository.save(new CartItem(null, shopper, products.get(i), 1, null));
+        }
+        orderRepository.deleteAll(orderRepository.findAll().stream()
+                .filter(order -> order.getUser().getId().equals(shopper.getId()))
+                .toList());
+        for (int i = 0; i < ORDERS; i++) {
+            shopperOrderId = orderRepository.save(order(shopper, products.get(i), products.get(i + 1))).getId();
+        }
+        buyer = userRepository.findByUsername(spec.username(1)).orElseThrow();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        adminToken = token("admin");
+        shopperToken = token(shopper.getUsername());
+        buyerToken = token(buyer.getUsername());
+    }
+
+    // ==================== CATALOG ====================
+
+    @Test
+    void productById() throws Exception {
+        expect(get("/api/products/" + products.get(0).getId()), 200, 1, 1);
+    }
+
+    @Test
+    void productsByCategory() throws Exception {
+        long inCategory = products.stream().filter(p -> p.getCategory().equals("category-00")).count();
+        expect(get("/api/products/category/category-00"), 200, 1, inCategory);
+    }
+
+    @Test
+    void productSearch() throws Exception {
+        long matching = products.stream().filter(p -> p.getName().toLowerCase().contains("smart")).count();
+        expect(get("/api/products/search").param("name", "smart"), 200, 1, matching);
+    }
+
+    @Test
+    void activeProducts() throws Exception {
+        expect(get("/api/products"), 200, 1, CATALOG_PRODUCTS);
+    }
+
+    // ==================== CART ====================
+
+    @Test
+    void cartWithThirtyItems() throws Exception {
+        // Current user, then items joined with their products
+        expect(authorized(get("/api/cart"), shopperToken), 200, AUTH_LOOKUP + 2, 2 + 2 * CART_ITEMS);
+    }
+
+    @Test
+    void cartWrites() throws Exception {
+        Long productId = products.get(100).getId();
+        expect(authorized(post("/api/cart/add/" + productId).param("quantity", "1"), buyerToken), 200, AUTH_LOOKUP + 4, 3);
+        Long cartItemId = cartItemRepository.findByUserAndProductId(buyer, productId).orElseThrow().getId();
+        expect(authorized(put("/api/cart/update/" + cartItemId).param("quantity", "2"), buyerToken), 200, AUTH_LOOKUP + 4, 4);
+        expect(authorized(delete("/api/cart/remove/" + cartItemId), buyerToken), 200, AUTH_LOOKUP + 3, 3);
+        // Derived delete: one select, then one delete per item
+        int left = cartItemRepository.findByUser(buyer).size();
+        expect(authorized(delete("/api/cart/clear"), buyerToken), 200, AUTH_LOOKUP + 2 + left, 2 + left);
+    }
+
+    // ==================== ORDERS ====================
+
+    @Test
+    void orderHistoryOfFiftyOrders() throws Exception {
+        // Current user, the page of ids, then the orders with items and products; two lines per order
+        expect(authorized(get("/api/orders").param("limit", String.valueOf(ORDERS)), shopperToken),
+                200, AUTH_LOOKUP + 3, 3 + ORDERS + 2 * ORDERS + (ORDERS + 1));
+    }
+
+    @Test
+    void orderSummaries() throws Exception {
+        expect(authorized(get("/api/orders").param("limit", String.valueOf(ORDERS)).param("summary", "true"), shopperToken),
+                200, AUTH_LOOKUP + 2, 3 + ORDERS);
+    }
+
+    @Test
+    void orderById() throws Exception {
+        expect(authorized(get("/api/orders/" + shopperOrderId), shopperToken), 200, AUTH_LOOKUP + 2, 7);
+    }
+
+    @Test
+    void checkout() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(authorized(post("/api/cart/add/" + products.get(200 + i).getId()), buyerToken));
+        }
+        int lines = cartItemRepository.findByUser(buyer).size();
+        // Fixed: user, cart, order, outbox event, cart select, rollup totals. Per line: item insert,
+        // stock update, cart delete, and at most one rollup lookup and write for its category
+        expect(authorized(post("/api/orders/create").param("shippingAddress", "1 Budget Street"), buyerToken),
+                201, AUTH_LOOKUP + 6 + 5L * lines, 2 + 2L * lines);
+    }
+
+    // ==================== ADMIN ====================
+
+    @Test
+    void adminOrderList() throws Exception {
+        expect(authorized(get("/api/admin/orders").param("limit", String.valueOf(ORDERS))
+                        .param("userId", String.valueOf(shopper.getId())), adminToken),
+                200, AUTH_LOOKUP + 2, 1 + ORDERS + 2 * ORDERS + (ORDERS + 1) + 1);
+    }
+
+    @Test
+    void adminOrderById() throws Exception {
+        expect(authorized(get("/api/admin/orders/" + shopperOrderId), adminToken), 200, AUTH_LOOKUP + 2, 7);
+    }
+
+    @Test
+    void adminStats() throws Exception {
+        // Order totals come from OrderStatsService's in-memory snapshot
+        expect(authorized(get("/api/admin/stats"), adminToken), 200, AUTH_LOOKUP + 1, 1);
+    }
+
+    @Test
+    void adminProductList() throws Exception {
+        // The admin catalog is deliberately the whole table
+        expect(authorized(get("/api/admin/products"), adminToken), 200, AUTH_LOOKUP + 1, 1 + CATALOG_PRODUCTS);
+    }
+
+    private void expect(MockHttpServletRequestBuilder request, int status, long maxStatements, long maxEntities)
+            throws Exception {
+        statistics.clear();
+        MvcResult result = mvc.perform(request).andReturn();
+        long statements = statistics.getPrepareStatementCount();
+        long entities = statistics.getEntityLoadCount();
+        String call = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        assertEquals(status, result.getResponse().getStatus(), call + ": " + result.getResponse().getContentAsString());
+        assertTrue(statements <= maxStatements,
+                call + " ran " + statements + " statements, budget " + maxStatements);
+        assertTrue(entities <= maxEntities,
+                call + " loaded " + entities + " entities, budget " + maxEntities);
+    }
+
+    private static MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String token) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    private String token(String username) {
+        UserDetails user = userDetailsService.loadUserByUsername(username);
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static Order order(User user, Product... lines) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setShippingAddress("1 Budget Street");
+        order.setPaymentMethod("COD");
+        order.setStatus(Order.OrderStatus.PENDING);
+        BigDecimal total = BigDecimal.ZERO;
+        List<OrderItem> items = new ArrayList<>();
+        for (Product product : lines) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setPrice(product.getPrice());
+            items.add(item);
+            total = total.add(product.getPrice());
+        }
+        order.setOrderItems(items);
+        order.setTotalAmount(total);
+        return order;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.model.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recovery and reading of journal segments: a reopened segment must end at
+ * its last intact frame whatever follows it, appends must continue from
+ * there, and replay must cross segment boundaries and start mid-segment.
+ */
+class JournalSegmentTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int PAYLOAD_SIZE = 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopenFindsEveryAppendedFrame() throws IOException {
+        JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE);
+        appendFrames(segment, 1, 3);
+        segment.force();
+
+        JournalSegment reopened = JournalSegment.open(segment.getPath(), false);
+
+        assertEquals(1, reopened.getBaseSequence());
+        assertEquals(3, reopened.getLastSequence());
+        assertEquals(segment.getCreatedAt(), reopened.getCreatedAt());
+        assertEquals(List.of(1L, 2L, 3L), sequences(reopened, 1));
+    }
+
+    @Test
+    void reopenStopsAtTornFrameAndZeroesIt() throws IOException {
+        JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE);
+        appendFrames(segment, 1, 3);
+        segment.force();
+        // A crash mid-append: the length made it to disk, the rest of the frame did not
+        int tornAt = frameOffset(3);
+        writeInt(segment.getPath(), tornAt, PAYLOAD_SIZE);
+
+        JournalSegment reopened = JournalSegment.open(segment.getPath(), true);
+
+        assertEquals(3, reopened.getLastSequence());
+        assertEquals(0, readInt(segment.getPath(), tornAt));
+        assertTrue(reopened.append(4, payload(4)));
+        assertEquals(List.of(1L, 2L, 3L, 4L), sequences(reopened, 1));
+    }
+
+    @Test
+    void reopenStopsAtCorruptFrame() throws IOException {
+        JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE);
+        appendFrames(segment, 1, 4);
+        segment.force();
+        // Flip a payload byte of the second frame so its checksum no longer matches
+        int payloadAt = frameOffset(1) + JournalSegment.FRAME_HEADER_SIZE;
+        writeInt(segment.getPath(), payloadAt, ~readInt(segment.getPath(), payloadAt));
+
+        JournalSegment reopened = JournalSegment.open(segment.getPath(), false);
+
+        assertEquals(1, reopened.getLastSequence());
+        assertEquals(List.of(1L), sequences(reopened, 1));
+    }
+
+    @Test
+    void appendRefusesFrameThatDoesNotFit() throws IOException {
+        JournalSegment segment = JournalSegment.create(directory, 1, JournalSegment.HEADER_SIZE + 40);
+
+        assertTrue(segment.append(1, payload(1)));
+        assertFalse(segment.append(2, payload(2)));
+        assertEquals(1, segment.getLastSequence());
+        assertEquals(List.of(1L), sequences(segment, 1));
+    }
+
+    @Test
+    void journalRollsOverAndReplaysFromAnySequence() throws IOException {
+        OrderJournal journal = openJournal(256);
+        for (long orderId = 1; orderId <= 12; orderId++) {
+            assertEquals(orderId, journal.append(statusChange(orderId)));
+        }
+        journal.close();
+
+        assertTrue(segmentFiles().size() > 2);
+        assertEquals(range(1, 12), replay(journal, 1));
+        // Sequence 7 sits in the middle of a later segment
+        assertEquals(range(7, 12), replay(journal, 7));
+        assertEquals(range(12, 12), replay(journal, 12));
+        assertEquals(List.of(), replay(journal, 13));
+        assertEquals(12, journal.replay(1, (sequence, payload) -> { }));
+        assertEquals(12, journal.replay(13, (sequence, payload) -> { }));
+
+        OrderJournal reopened = openJournal(256);
+        assertEquals(journal.getStartedAt(), reopened.getStartedAt());
+        assertEquals(13, reopened.append(statusChange(13)));
+        assertEquals(range(1, 13), replay(reopened, 1));
+    }
+
+    @Test
+    void replayCountsRecordsLostWithASegment() throws IOException {
+        OrderJournal journal = openJournal(256);
+        for (long orderId = 1; orderId <= 12; orderId++) {
+            journal.append(statusChange(orderId));
+        }
+        journal.close();
+        List<Path> files = segmentFiles();
+        JournalSegment lost = JournalSegment.open(files.get(1), false);
+        long lostRecords = lost.getLastSequence() - lost.getBaseSequence() + 1;
+        Files.delete(files.get(1));
+
+        JournalReplay replay = new JournalReplay();
+        OrderJournal.replay(directory, 1, replay);
+
+        assertEquals(1, replay.getFirstSequence());
+        assertEquals(12, replay.getLastSequence());
+        assertEquals(lostRecords, replay.getMissingRecords());
+        assertEquals(12 - lostRecords, replay.getRecords());
+    }
+
+    private OrderJournal openJournal(int segmentBytes) throws IOException {
+        OrderJournal journal = new OrderJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "directory", directory);
+        ReflectionTestUtils.setField(journal, "segmentBytes", segmentBytes);
+        journal.open();
+        assertNotNull(journal.getStartedAt());
+        return journal;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static JournalRecord statusChange(long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new JournalRecord(JournalRecord.Type.STATUS_CHANGED, orderId, 1L, Order.OrderStatus.PENDING,
+                Order.OrderStatus.CONFIRMED, new BigDecimal("19.99"), now, now, List.of());
+    }
+
+    private static void appendFrames(JournalSegment segment, long from, long to) {
+        for (long sequence = from; sequence <= to; sequence++) {
+            assertTrue(segment.append(sequence, payload(sequence)));
+        }
+    }
+
+    private static ByteBuffer payload(long sequence) {
+        String text = String.format("rec-%06d", sequence);
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Offset of the frame at the given zero-based index, all payloads being PAYLOAD_SIZE bytes
+    private static int frameOffset(int index) {
+        return JournalSegment.HEADER_SIZE + index * (JournalSegment.FRAME_HEADER_SIZE + PAYLOAD_SIZE);
+    }
+
+    private static List<Long> sequences(JournalSegment segment, long fromSequence) {
+        List<Long> sequences = new ArrayList<>();
+        segment.scan(fromSequence, (sequence, payload) -> sequences.add(sequence));
+        return sequences;
+    }
+
+    private static List<Long> replay(OrderJournal journal, long fromSequence) {
+        List<Long> sequences = new ArrayList<>();
+        journal.replay(fromSequence, (sequence, payload) -> sequences.add(sequence));
+        return sequences;
+    }
+
+    private static List<Long> range(long from, long to) {
+        List<Long> range = new ArrayList<>();
+        for (long i = from; i <= to; i++) {
+            range.add(i);
+        }
+        return range;
+    }
+
+    private static void writeInt(Path path, int offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), offset);
+        }
+    }
+
+    private static int readInt(Path path, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(4);
+            channel.read(buffer, offset);
+            return buffer.getInt(0);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.ecommerce.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Open-model load generator: scenarios start at a fixed arrival rate
+ * whether or not earlier ones have finished, so a slow server shows up as
+ * latency instead of quietly lowering the offered load. The first request
+ * of each scenario is timed from its scheduled start, which charges any
+ * client-side queueing to the server's account (no coordinated omission).
+ *
+ * Scenarios that need a shopping cart borrow a logged-in user from a pool,
+ * so no two of them share a cart.
+ */
+class LoadDriver {
+
+    enum Scenario { BROWSE, SEARCH, CART, CHECKOUT, ADMIN }
+
+    private static final String[] SEARCH_TERMS = {"pro", "max", "mini", "smart", "classic", "eco", "ultra", "lite"};
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final String adminToken;
+    private final BlockingQueue<String> userTokens;
+    private final long[] productIds;
+    private final List<String> categories;
+    private final Map<Scenario, Integer> mix;
+    private final int totalWeight;
+    private final Map<String, Samples> samples = new ConcurrentSkipListMap<>();
+    private final AtomicLong scenariosStarted = new AtomicLong();
+    private final AtomicLong scenariosDelayed = new AtomicLong();
+
+    LoadDriver(String baseUrl, String adminToken, BlockingQueue<String> userTokens, long[] productIds,
+               List<String> categories, Map<Scenario, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.adminToken = adminToken;
+        this.userTokens = userTokens;
+        this.productIds = productIds;
+        this.categories = categories;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /** Offers ratePerSecond scenario starts for the given time and waits for them to finish. */
+    void run(double ratePerSecond, int seconds, int maxInFlight) throws InterruptedException {
+        ExecutorService workers = Executors.newCachedThreadPool();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        for (long n = 0; ; n++) {
+            long scheduled = start + n * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                // Still started, just late; the wait is part of the measured latency
+                scenariosDelayed.incrementAndGet();
+                inFlight.acquire();
+            }
+            Scenario scenario = pick();
+            scenariosStarted.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    runScenario(scenario, scheduled);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(2, TimeUnit.MINUTES);
+    }
+
+    void reset() {
+        samples.clear();
+        scenariosStarted.set(0);
+        scenariosDelayed.set(0);
+    }
+
+    Map<String, Samples> getSamples() {
+        return samples;
+    }
+
+    long getScenariosStarted() {
+        return scenariosStarted.get();
+    }
+
+    long getScenariosDelayed() {
+        return scenariosDelayed.get();
+    }
+
+    private Scenario pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Scenario.BROWSE;
+    }
+
+    private void runScenario(Scenario scenario, long scheduled) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (scenario) {
+            case BROWSE -> {
+                String category = categories.get(random.nextInt(categories.size()));
+                send("GET /api/products/category/{category}", get("/api/products/category/" + category, null), scheduled);
+                send("GET /api/products/{id}", get("/api/products/" + popularProduct(random), null), 0);
+            }
+            case SEARCH -> send("GET /api/products/search",
+                    get("/api/products/search?name=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], null), scheduled);
+            case CART, CHECKOUT -> withUser(token -> {
+                int lines = scenario == Scenario.CART ? 1 : 1 + random.nextInt(3);
+                long firstStart = scheduled;
+                for (int i = 0; i < lines; i++) {
+                    send("POST /api/cart/add/{productId}",
+                            post("/api/cart/add/" + popularProduct(random) + "?quantity=1", token), firstStart);
+                    firstStart = 0;
+                }
+                if (scenario == Scenario.CART) {
+                    send("GET /api/cart", get("/api/cart", token), 0);
+                    send("DELETE /api/cart/clear", delete("/api/cart/clear", token), 0);
+                } else {
+                    send("POST /api/orders/create", post("/api/orders/create?shippingAddress=Load+Test+Street", token), 0);
+                }
+            });
+            case ADMIN -> {
+                send("GET /api/admin/orders", get("/api/admin/orders?limit=20", adminToken), scheduled);
+                send("GET /api/admin/stats", get("/api/admin/stats", adminToken), 0);
+            }
+        }
+    }
+
+    // Roughly Zipf-like: the first products are requested far more often than the tail
+    private long popularProduct(ThreadLocalRandom random) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return productIds[(int) (skewed * productIds.length)];
+    }
+
+    private void withUser(Consumer<String> body) {
+        String token;
+        try {
+            token = userTokens.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            body.accept(token);
+        } finally {
+            userTokens.add(token);
+        }
+    }
+
+    /** Sends one request and records it; startNanos 0 means "now". */
+    private void send(String endpoint, HttpRequest request, long startNanos) {
+        long start = startNanos != 0 ? startNanos : System.nanoTime();
+        boolean ok;
+        try {
+            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (Exception e) {
+            ok = false;
+        }
+        samples.computeIfAbsent(endpoint, key -> new Samples()).record(System.nanoTime() - start, ok);
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token) {
+        return request(path, token).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest delete(String path, String token) {
+        return request(path, token).DELETE().build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /** Latencies of one endpoint. */
+    static class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long getErrors() {
+            return errors;
+        }
+    }
+
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
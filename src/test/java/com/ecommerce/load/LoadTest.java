@@ -0,0 +1,169 @@
+package com.ecommerce.load;
+
+import com.ecommerce.dataset.DatasetGenerator;
+import com.ecommerce.dataset.DatasetSpec;
+import com.ecommerce.dataset.GeneratedDataset;
+import com.ecommerce.dataset.JdbcDatasetSink;
+import com.ecommerce.security.CustomUserDetailsService;
+import com.ecommerce.security.JwtTokenProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: the whole application on a random port against an
+ * in-memory H2 database, seeded by DatasetGenerator, driven
+ * by LoadDriver at a fixed arrival rate. Prints p50/p99/p99.9 latency and
+ * throughput per endpoint and writes the same table to target/load-test/.
+ *
+ * Tagged "load" and skipped by a normal build; run it with
+ *
+ *   mvn test -Pload-test -Dload.rate=200 -Dload.duration-seconds=60
+ *
+ * Settings (system properties): load.rate (scenarios per second),
+ * load.duration-seconds, load.warmup-seconds, load.max-in-flight,
+ * load.users, load.products, load.categories, load.orders, load.seed,
+ * load.mix (e.g. browse:50,search:20,cart:15,checkout:10,admin:5)
+ * and load.max-error-ratio.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "sql.tracking.response-headers=false",
+        "logging.level.root=WARN",
+        "logging.level.com.ecommerce=WARN"
+})
+class LoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        double rate = Double.parseDouble(setting("load.rate", "100"));
+        int seconds = Integer.parseInt(setting("load.duration-seconds", "30"));
+        int warmupSeconds = Integer.parseInt(setting("load.warmup-seconds", "10"));
+        int maxInFlight = Integer.parseInt(setting("load.max-in-flight", "256"));
+        double maxErrorRatio = Double.parseDouble(setting("load.max-error-ratio", "0.01"));
+
+        // Plenty of stock, so checkouts don't start failing part way through a long run
+        DatasetSpec spec = new DatasetSpec().apply(
+                "seed=" + setting("load.seed", "42"),
+                "users=" + setting("load.users", "200"),
+                "products=" + setting("load.products", "2000"),
+                "categories=" + setting("load.categories", "12"),
+                "orders=" + setting("load.orders", "20000"),
+                "maxStock=1000000");
+        GeneratedDataset dataset;
+        try (JdbcDatasetSink sink = new JdbcDatasetSink(dataSource, spec.getBatchSize())) {
+            dataset = new DatasetGenerator(spec).generate(sink);
+        }
+        System.out.println("Seeded " + dataset);
+
+        BlockingQueue<String> userTokens = new LinkedBlockingQueue<>();
+        for (int i = 0; i < spec.getUsers(); i++) {
+            userTokens.add(tokenFor(spec.username(i)));
+        }
+
+        Map<LoadDriver.Scenario, Integer> mix = mix(setting("load.mix", "browse:50,search:20,cart:15,checkout:10,admin:5"));
+        LoadDriver driver = new LoadDriver("http://localhost:" + port, tokenFor("admin"), userTokens,
+                dataset.getProductIdsByPopularity(), dataset.getCategories(), mix);
+        if (warmupSeconds > 0) {
+            driver.run(rate, warmupSeconds, maxInFlight);
+            driver.reset();
+        }
+        driver.run(rate, seconds, maxInFlight);
+
+        long[] totals = report(driver, rate, seconds);
+        assertTrue(totals[1] <= totals[0] * maxErrorRatio,
+                totals[1] + " of " + totals[0] + " requests failed");
+    }
+
+    private String tokenFor(String username) {
+        UserDetails user = userDetailsService.loadUserByUsername(username);
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static Map<LoadDriver.Scenario, Integer> mix(String spec) {
+        Map<LoadDriver.Scenario, Integer> mix = new EnumMap<>(LoadDriver.Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(LoadDriver.Scenario.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        return mix;
+    }
+
+    /** Prints and saves the per-endpoint table; returns {requests, errors}. */
+    private static long[] report(LoadDriver driver, double rate, int seconds) throws IOException {
+        Path dir = Path.of("target", "load-test");
+        Files.createDirectories(dir);
+        Path csv = dir.resolve("load-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        long requests = 0;
+        long errors = 0;
+        System.out.printf(Locale.ROOT, "%nOffered %.1f scenarios/s for %d s: %d started, %d delayed by max-in-flight%n",
+                rate, seconds, driver.getScenariosStarted(), driver.getScenariosDelayed());
+        System.out.printf(Locale.ROOT, "%-38s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv))) {
+            out.println("endpoint,count,errors,throughput,p50Ms,p99Ms,p999Ms,maxMs");
+            for (Map.Entry<String, LoadDriver.Samples> entry : driver.getSamples().entrySet()) {
+                long[] sorted = entry.getValue().sorted();
+                long endpointErrors = entry.getValue().getErrors();
+                double throughput = (double) sorted.length / seconds;
+                double p50 = LoadDriver.percentileMillis(sorted, 50);
+                double p99 = LoadDriver.percentileMillis(sorted, 99);
+                double p999 = LoadDriver.percentileMillis(sorted, 99.9);
+                double max = LoadDriver.percentileMillis(sorted, 100);
+                System.out.printf(Locale.ROOT, "%-38s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        entry.getKey(), sorted.length, endpointErrors, throughput, p50, p99, p999, max);
+                out.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f%n",
+                        entry.getKey(), sorted.length, endpointErrors, throughput, p50, p99, p999, max);
+                requests += sorted.length;
+                errors += endpointErrors;
+            }
+        }
+        System.out.println("Written to " + csv);
+        return new long[] {requests, errors};
+    }
+
+    private static String setting(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+}
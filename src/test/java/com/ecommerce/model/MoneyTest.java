@@ -0,0 +1,62 @@
+package com.ecommerce.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Cent arithmetic: half-up rounding when a BigDecimal has more decimals than
+ * the currency, and ArithmeticException instead of a wrapped long on
+ * overflow.
+ */
+class MoneyTest {
+
+    @Test
+    void convertsExactAmounts() {
+        assertEquals(1999, Money.toMinorUnits(new BigDecimal("19.99")));
+        assertEquals(2000, Money.toMinorUnits(new BigDecimal("20")));
+        assertEquals(0, Money.toMinorUnits(null));
+        assertEquals(new BigDecimal("19.99"), Money.toBigDecimal(1999));
+    }
+
+    @Test
+    void roundsExtraDecimalsHalfUp() {
+        assertEquals(1000, Money.toMinorUnits(new BigDecimal("9.995")));
+        assertEquals(999, Money.toMinorUnits(new BigDecimal("9.9949")));
+        assertEquals(-1000, Money.toMinorUnits(new BigDecimal("-9.995")));
+    }
+
+    @Test
+    void followsTheCurrencysDecimals() {
+        Currency yen = Currency.getInstance("JPY");
+        assertEquals(1235, Money.toMinorUnits(new BigDecimal("1234.5"), yen));
+        assertEquals(new BigDecimal("1235"), Money.toBigDecimal(1235, yen));
+    }
+
+    @Test
+    void failsOnAmountsBeyondALong() {
+        BigDecimal huge = BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(1);
+        assertThrows(ArithmeticException.class, () -> Money.toMinorUnits(huge));
+    }
+
+    @Test
+    void failsOnLineTotalOverflow() {
+        assertEquals(5997, Money.lineTotal(1999, 3));
+        assertThrows(ArithmeticException.class, () -> Money.lineTotal(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    void orderTotalSumsPriceTimesQuantity() {
+        Order order = new Order();
+        order.setOrderItems(List.of(
+                new OrderItem(null, order, null, 3, new BigDecimal("19.99")),
+                new OrderItem(null, order, null, 1, new BigDecimal("0.10"))));
+
+        assertEquals(new BigDecimal("60.07"), order.calculateTotalAmount());
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.model;
+
+import com.ecommerce.model.Order.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The order lifecycle: forward through PENDING, CONFIRMED, SHIPPED and
+ * DELIVERED, cancellable until shipped, nothing out of a final status.
+ */
+class OrderStatusTest {
+
+    @Test
+    void pendingMovesToAnyLaterStatus() {
+        assertEquals(EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.CANCELLED),
+                targetsOf(OrderStatus.PENDING));
+    }
+
+    @Test
+    void confirmedCannotGoBackToPending() {
+        assertEquals(EnumSet.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.CANCELLED),
+                targetsOf(OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    void shippedCanOnlyBeDelivered() {
+        assertEquals(EnumSet.of(OrderStatus.DELIVERED), targetsOf(OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void finalStatusesGoNowhere() {
+        assertEquals(EnumSet.noneOf(OrderStatus.class), targetsOf(OrderStatus.DELIVERED));
+        assertEquals(EnumSet.noneOf(OrderStatus.class), targetsOf(OrderStatus.CANCELLED));
+    }
+
+    private static Set<OrderStatus> targetsOf(OrderStatus from) {
+        Set<OrderStatus> targets = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus target : OrderStatus.values()) {
+            if (from.canTransitionTo(target)) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ecommerce.service;
+
+import com.ecommerce.event.OrderStatusChangedEvent;
+import com.ecommerce.model.Order;
+import com.ecommerce.security.CustomUserDetailsService;
+import com.ecommerce.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * A subscriber that falls behind must never receive an event past one it
+ * missed: its Last-Event-ID would then skip the gap and the reconnect replay
+ * could not fill it. Writers are held back by swapping in an executor that
+ * only runs when the test says so, with room for two queued events per
+ * subscriber.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ordereventstream;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.dispatch.enabled=false",
+        "orders.events.queue-capacity=2",
+        "orders.events.heartbeat-ms=3600000",
+        "orders.events.stall-check-ms=3600000",
+        "logging.level.root=WARN",
+        "logging.level.com.ecommerce=WARN"
+})
+@AutoConfigureMockMvc
+class OrderEventStreamTest {
+
+    private static final String EVENTS = "/api/admin/orders/events";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private OrderEventStream orderEventStream;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private final Queue<Runnable> pendingWrites = new ConcurrentLinkedQueue<>();
+    private Object writers;
+    private String adminToken;
+
+    @BeforeEach
+    void holdWriters() {
+        writers = ReflectionTestUtils.getField(orderEventStream, "writers");
+        ReflectionTestUtils.setField(orderEventStream, "writers", (Executor) pendingWrites::add);
+        UserDetails admin = userDetailsService.loadUserByUsername("admin");
+        adminToken = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+    }
+
+    @AfterEach
+    void releaseWriters() {
+        runWrites();
+        ReflectionTestUtils.setField(orderEventStream, "writers", writers);
+    }
+
+    @Test
+    void overflowStopsDeliveryRightBeforeTheMissedEvent() throws Exception {
+        int subscribersBefore = orderEventStream.getSubscriberCount();
+        MvcResult stream = subscribe(null);
+
+        publish(4);
+        assertEquals(subscribersBefore, orderEventStream.getSubscriberCount());
+        runWrites();
+        publish(1);
+        runWrites();
+
+        List<Long> received = receivedSequences(stream);
+        assertEquals(2, received.size());
+        assertEquals(received.get(0) + 1, received.get(1));
+
+        // Resuming from the last delivered id picks up the missed events in order
+        MvcResult resumed = subscribe(lastEventId(stream));
+        runWrites();
+        assertEquals(List.of(received.get(1) + 1, received.get(1) + 2), receivedSequences(resumed).subList(0, 2));
+    }
+
+    @Test
+    void replayLargerThanTheQueueSendsWhatFitsAndCloses() throws Exception {
+        MvcResult first = subscribe(null);
+        publish(1);
+        runWrites();
+        String resumeFrom = lastEventId(first);
+        long lastSeen = receivedSequences(first).get(0);
+        publish(4);
+        runWrites();
+
+        int subscribersBefore = orderEventStream.getSubscriberCount();
+        MvcResult replayed = subscribe(resumeFrom);
+        assertEquals(subscribersBefore, orderEventStream.getSubscriberCount());
+        runWrites();
+        publish(1);
+        runWrites();
+
+        assertEquals(List.of(lastSeen + 1, lastSeen + 2), receivedSequences(replayed));
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder request = get(EVENTS).header("Authorization", "Bearer " + adminToken);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private void publish(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            orderEventStream.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, Order.OrderStatus.PENDING,
+                    Order.OrderStatus.CONFIRMED, BigDecimal.TEN, now, now));
+        }
+    }
+
+    private void runWrites() {
+        Runnable write;
+        while ((write = pendingWrites.poll()) != null) {
+            write.run();
+        }
+    }
+
+    private static List<Long> receivedSequences(MvcResult stream) throws Exception {
+        List<Long> sequences = new ArrayList<>();
+        for (String line : stream.getResponse().getContentAsString().split("\n")) {
+            if (line.startsWith("id:")) {
+                sequences.add(Long.parseLong(line.substring(line.lastIndexOf('-') + 1)));
+            }
+        }
+        return sequences;
+    }
+
+    private static String lastEventId(MvcResult stream) throws Exception {
+        String lastId = null;
+        for (String line : stream.getResponse().getContentAsString().split("\n")) {
+            if (line.startsWith("id:")) {
+                lastId = line.substring("id:".length());
+            }
+        }
+        return lastId;
+    }
+}
@@ -0,0 +1,175 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CursorPage;
+import com.ecommerce.dto.OrderResponse;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.dto.OrderSummaryResponse;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.OrderItem;
+import com.ecommerce.model.Product;
+import com.ecommerce.model.User;
+import com.ecommerce.repository.ArchivedOrderRepository;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A customer's order history pages through their live orders and then on
+ * into the archive, newest first on each side, without repeating or
+ * skipping an order at the boundary. Each test gets a fresh customer with
+ * three live and four archived orders.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:orderquery;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.dispatch.enabled=false",
+        "logging.level.root=WARN",
+        "logging.level.com.ecommerce=WARN"
+})
+class OrderQueryServiceTest {
+
+    private static final int LIVE_ORDERS = 3;
+    private static final int ARCHIVED_ORDERS = 4;
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User customer;
+    private List<Long> expectedIds;
+
+    @BeforeEach
+    void seedHistory() {
+        String username = "history-" + System.nanoTime();
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("unused");
+        customer = userRepository.save(user);
+
+        Product product = new Product();
+        product.setName("History Widget");
+        product.setPrice(new BigDecimal("4.99"));
+        product.setStockQuantity(10);
+        product = productRepository.save(product);
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Long> archivedIds = new ArrayList<>();
+        List<Long> liveIds = new ArrayList<>();
+        for (int i = 0; i < ARCHIVED_ORDERS + LIVE_ORDERS; i++) {
+            Long id = createOrder(product, start.plusDays(i));
+            (i < ARCHIVED_ORDERS ? archivedIds : liveIds).add(0, id);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            archivedOrderRepository.copyOrders(archivedIds, LocalDateTime.now());
+            archivedOrderRepository.copyOrderItems(archivedIds);
+            archivedOrderRepository.deleteHotOrderItems(archivedIds);
+            archivedOrderRepository.deleteHotOrders(archivedIds);
+        });
+
+        expectedIds = new ArrayList<>(liveIds);
+        expectedIds.addAll(archivedIds);
+    }
+
+    @Test
+    void historyContinuesIntoTheArchiveWithItems() {
+        List<OrderResponse> orders = readAll(2, orderQueryService::findOrders);
+
+        assertEquals(expectedIds, orders.stream().map(OrderResponse::getId).toList());
+        for (OrderResponse order : orders) {
+            assertEquals(1, order.getOrderItems().size());
+        }
+    }
+
+    @Test
+    void summariesContinueIntoTheArchive() {
+        List<OrderSummaryResponse> orders = readAll(2, orderQueryService::findOrderSummaries);
+
+        assertEquals(expectedIds, orders.stream().map(OrderSummaryResponse::getId).toList());
+    }
+
+    @Test
+    void pageWhereLiveOrdersRunOutIsToppedUpFromTheArchive() {
+        CursorPage<OrderResponse> page = orderQueryService.findOrders(OrderSearchRequest.forUser(customer.getId(), null, 5));
+
+        assertEquals(expectedIds.subList(0, 5), page.getItems().stream().map(OrderResponse::getId).toList());
+        CursorPage<OrderResponse> last = orderQueryService.findOrders(
+                OrderSearchRequest.forUser(customer.getId(), page.getNextCursor(), 5));
+        assertEquals(expectedIds.subList(5, expectedIds.size()), last.getItems().stream().map(OrderResponse::getId).toList());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void adminListingRejectsAnArchiveCursor() {
+        CursorPage<OrderResponse> page = orderQueryService.findOrders(OrderSearchRequest.forUser(customer.getId(), null, 5));
+
+        OrderSearchRequest adminRequest = new OrderSearchRequest();
+        adminRequest.setCursor(page.getNextCursor());
+        assertThrows(IllegalArgumentException.class, () -> orderQueryService.findOrdersForAdmin(adminRequest));
+    }
+
+    private <T> List<T> readAll(int limit, Function<OrderSearchRequest, CursorPage<T>> query) {
+        List<T> orders = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<T> page = query.apply(OrderSearchRequest.forUser(customer.getId(), cursor, limit));
+            orders.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return orders;
+    }
+
+    private Long createOrder(Product product, LocalDateTime createdAt) {
+        Order order = new Order();
+        order.setUser(customer);
+        order.setStatus(Order.OrderStatus.DELIVERED);
+        order.setShippingAddress("1 Test Street");
+        order.setPaymentMethod("CARD");
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProduct(product);
+        item.setQuantity(1);
+        item.setPrice(product.getPrice());
+        order.getOrderItems().add(item);
+        order.setTotalAmount(order.calculateTotalAmount());
+        Long id = orderRepository.save(order).getId();
+        // created_at is set on insert; move it to where this order belongs in the history
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(id).orElseThrow().setCreatedAt(createdAt));
+        return id;
+    }
+}
@@ -0,0 +1,154 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.BulkStatusUpdateResponse;
+import com.ecommerce.dto.OrderSearchRequest;
+import com.ecommerce.dto.StatusTransitionResult;
+import com.ecommerce.model.Order;
+import com.ecommerce.model.User;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Outcomes of status transitions against an H2 database, and the bulk cap
+ * (orders.bulk.max-size, 3 here) for both explicit ids and filters. Each
+ * test tags its orders with its own total amount so filters only see them.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:orderstatus;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.dispatch.enabled=false",
+        "orders.bulk.max-size=3",
+        "logging.level.root=WARN",
+        "logging.level.com.ecommerce=WARN"
+})
+class OrderStatusServiceTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void reportsEachOrdersOutcome() {
+        BigDecimal amount = new BigDecimal("101.00");
+        Long pending = createOrder(Order.OrderStatus.PENDING, amount);
+        Long delivered = createOrder(Order.OrderStatus.DELIVERED, amount);
+        Long cancelled = createOrder(Order.OrderStatus.CANCELLED, amount);
+
+        BulkStatusUpdateResponse response = orderStatusService.transition(
+                List.of(pending, delivered, cancelled), Order.OrderStatus.DELIVERED);
+
+        assertEquals(3, response.getRequested());
+        assertEquals(1, response.getUpdated());
+        assertResult(response.getResults().get(0), pending, Order.OrderStatus.PENDING, StatusTransitionResult.Outcome.UPDATED);
+        assertResult(response.getResults().get(1), delivered, Order.OrderStatus.DELIVERED, StatusTransitionResult.Outcome.UNCHANGED);
+        assertResult(response.getResults().get(2), cancelled, Order.OrderStatus.CANCELLED, StatusTransitionResult.Outcome.INVALID_TRANSITION);
+        assertEquals(Order.OrderStatus.DELIVERED, statusOf(pending));
+        assertEquals(Order.OrderStatus.CANCELLED, statusOf(cancelled));
+    }
+
+    @Test
+    void reportsMissingOrderAsNotFound() {
+        StatusTransitionResult result = orderStatusService.updateStatus(MISSING_ID, Order.OrderStatus.CONFIRMED);
+
+        assertResult(result, MISSING_ID, null, StatusTransitionResult.Outcome.NOT_FOUND);
+    }
+
+    @Test
+    void collapsesDuplicateIds() {
+        Long order = createOrder(Order.OrderStatus.PENDING, new BigDecimal("102.00"));
+
+        BulkStatusUpdateResponse response = orderStatusService.transition(List.of(order, order), Order.OrderStatus.CONFIRMED);
+
+        assertEquals(1, response.getRequested());
+        assertEquals(1, response.getUpdated());
+    }
+
+    @Test
+    void rejectsMoreIdsThanTheCap() {
+        assertThrows(IllegalArgumentException.class,
+                () -> orderStatusService.transition(List.of(1L, 2L, 3L, 4L), Order.OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    void updatesEveryOrderOfAFilterAtTheCap() {
+        BigDecimal amount = new BigDecimal("103.00");
+        List<Long> orders = createOrders(3, amount);
+
+        BulkStatusUpdateResponse response = orderStatusService.updateStatus(filterByAmount(amount), Order.OrderStatus.CONFIRMED);
+
+        assertEquals(3, response.getUpdated());
+        for (Long order : orders) {
+            assertEquals(Order.OrderStatus.CONFIRMED, statusOf(order));
+        }
+    }
+
+    @Test
+    void rejectsAFilterMatchingMoreThanTheCapWithoutUpdatingAny() {
+        BigDecimal amount = new BigDecimal("104.00");
+        List<Long> orders = createOrders(4, amount);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> orderStatusService.updateStatus(filterByAmount(amount), Order.OrderStatus.CONFIRMED));
+        for (Long order : orders) {
+            assertEquals(Order.OrderStatus.PENDING, statusOf(order));
+        }
+    }
+
+    private List<Long> createOrders(int count, BigDecimal amount) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(createOrder(Order.OrderStatus.PENDING, amount));
+        }
+        return ids;
+    }
+
+    private Long createOrder(Order.OrderStatus status, BigDecimal amount) {
+        User user = userRepository.findByUsername("admin").orElseThrow();
+        Order order = new Order();
+        order.setUser(user);
+        order.setStatus(status);
+        order.setTotalAmount(amount);
+        order.setShippingAddress("1 Test Street");
+        order.setPaymentMethod("CARD");
+        return orderRepository.save(order).getId();
+    }
+
+    private Order.OrderStatus statusOf(Long orderId) {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    private static OrderSearchRequest filterByAmount(BigDecimal amount) {
+        OrderSearchRequest filter = new OrderSearchRequest();
+        filter.setMinAmount(amount);
+        filter.setMaxAmount(amount);
+        return filter;
+    }
+
+    private static void assertResult(StatusTransitionResult result, Long orderId, Order.OrderStatus previousStatus,
+                                     StatusTransitionResult.Outcome outcome) {
+        assertEquals(orderId, result.getOrderId());
+        assertEquals(previousStatus, result.getPreviousStatus());
+        assertEquals(outcome, result.getOutcome());
+    }
+}